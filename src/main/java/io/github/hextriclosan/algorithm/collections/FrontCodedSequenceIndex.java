@@ -0,0 +1,430 @@
+package io.github.hextriclosan.algorithm.collections;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable index of sorted sequences, compressed with front coding.
+ * <p>
+ * Sequences are grouped into blocks. The first sequence of a block is stored in full, every other one stores only
+ * the length of the prefix it shares with the previous sequence and the remaining suffix. Elements of all suffixes
+ * are kept in a single flat array, so the index costs two ints per sequence plus elements which are not shared,
+ * instead of a list object per sequence and every shared prefix repeated.
+ * <p>
+ * Lookups binary search first sequences of blocks and then scan a single block, using shared prefix lengths to skip
+ * sequences without comparing their elements. Sequences are ordered like
+ * {@link io.github.hextriclosan.algorithm.comparators.LexicographicalComparator} with the same element comparator:
+ * a proper prefix is less than the sequence it is a prefix of. Duplicate sequences are kept.
+ * <p>
+ * Sequences returned by the index are unmodifiable copies.
+ *
+ * @param <E> the type of the elements of sequences
+ */
+public class FrontCodedSequenceIndex<E> implements Iterable<List<E>> {
+
+    /**
+     * Default number of sequences in a block.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 16;
+
+    /**
+     * The comparator used to compare elements of sequences,
+     * or null if it uses the natural ordering.
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * The number of sequences in a block.
+     */
+    private final int blockSize;
+
+    /**
+     * The number of sequences.
+     */
+    private final int size;
+
+    /**
+     * Elements of suffixes of all sequences, one after another.
+     */
+    private final Object[] elements;
+
+    /**
+     * The offset of the suffix of the i-th sequence in elements, with the end of elements at index size.
+     */
+    private final int[] offsets;
+
+    /**
+     * The length of the prefix the i-th sequence shares with the previous one, zero for first sequences of blocks.
+     */
+    private final int[] shared;
+
+    /**
+     * The length of the longest sequence.
+     */
+    private final int maxLength;
+
+    /**
+     * Constructs an index of sequences sorted in the natural order of elements.
+     *
+     * @param sortedSequences the sequences, in lexicographical order
+     * @throws NullPointerException if sortedSequences or any of sequences are null
+     * @throws IllegalArgumentException if sequences are not sorted
+     */
+    public FrontCodedSequenceIndex(final Iterable<? extends List<? extends E>> sortedSequences) {
+        this(sortedSequences, null);
+    }
+
+    /**
+     * Constructs an index of sequences sorted with custom element comparator.
+     *
+     * @param sortedSequences the sequences, in lexicographical order
+     * @param comparator the comparator used to compare elements of sequences.
+     *                   If null, the natural ordering of the elements will be used.
+     * @throws NullPointerException if sortedSequences or any of sequences are null
+     * @throws IllegalArgumentException if sequences are not sorted
+     */
+    public FrontCodedSequenceIndex(final Iterable<? extends List<? extends E>> sortedSequences,
+                                   final Comparator<? super E> comparator) {
+        this(sortedSequences, comparator, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Constructs an index of sequences sorted with custom element comparator and custom block size.
+     * Larger blocks take less memory and make lookups slower.
+     *
+     * @param sortedSequences the sequences, in lexicographical order
+     * @param comparator the comparator used to compare elements of sequences.
+     *                   If null, the natural ordering of the elements will be used.
+     * @param blockSize the number of sequences in a block
+     * @throws NullPointerException if sortedSequences or any of sequences are null
+     * @throws IllegalArgumentException if sequences are not sorted or blockSize is not positive
+     */
+    public FrontCodedSequenceIndex(final Iterable<? extends List<? extends E>> sortedSequences,
+                                   final Comparator<? super E> comparator, final int blockSize) {
+        Objects.requireNonNull(sortedSequences, "sortedSequences");
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize should be positive");
+        }
+        this.comparator = comparator;
+        this.blockSize = blockSize;
+
+        Object[] elements = new Object[16];
+        int[] offsets = new int[16];
+        int[] shared = new int[16];
+        int count = 0;
+        int length = 0;
+        int maxLength = 0;
+        Object[] previous = null;
+        for (List<? extends E> sequence : sortedSequences) {
+            final Object[] current = Objects.requireNonNull(sequence, "sequence").toArray();
+            int prefix = 0;
+            if (previous != null) {
+                prefix = mismatch(previous, current, 0);
+                if (compareAt(previous, current, prefix) > 0) {
+                    throw new IllegalArgumentException("sequences are not sorted");
+                }
+            }
+            if (count % blockSize == 0) {
+                prefix = 0;
+            }
+
+            if (count + 1 >= offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                shared = Arrays.copyOf(shared, shared.length * 2);
+            }
+            final int suffix = current.length - prefix;
+            if (length + suffix > elements.length) {
+                elements = Arrays.copyOf(elements, Math.max(elements.length * 2, length + suffix));
+            }
+            System.arraycopy(current, prefix, elements, length, suffix);
+            offsets[count] = length;
+            shared[count] = prefix;
+            length += suffix;
+            maxLength = Math.max(maxLength, current.length);
+            ++count;
+            previous = current;
+        }
+        offsets[count] = length;
+
+        this.size = count;
+        this.elements = Arrays.copyOf(elements, length);
+        this.offsets = Arrays.copyOf(offsets, count + 1);
+        this.shared = Arrays.copyOf(shared, count);
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the number of sequences in the index.
+     *
+     * @return the number of sequences
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the sequence at the specified position.
+     *
+     * @param index the position of the sequence
+     * @return the sequence
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public List<E> get(int index) {
+        Objects.checkIndex(index, size);
+        final Object[] sequence = new Object[length(index)];
+        for (int i = index - index % blockSize; i <= index; ++i) {
+            final int from = offsets[i];
+            final int to = Math.min(offsets[i + 1], from + sequence.length - shared[i]);
+            if (to > from) {
+                System.arraycopy(elements, from, sequence, shared[i], to - from);
+            }
+        }
+        return view(sequence);
+    }
+
+    /**
+     * Searches the index for the specified sequence.
+     *
+     * @param key the sequence to search for
+     * @return the index of the first sequence equal to the key, if it is present;
+     *         otherwise, {@code (-(insertion point) - 1)}, where the insertion point is the index
+     *         of the first sequence greater than the key, or {@link #size()} if all sequences are less.
+     * @throws NullPointerException if key is null
+     */
+    public int binarySearch(List<? extends E> key) {
+        final Object[] k = Objects.requireNonNull(key, "key").toArray();
+
+        // the last block whose first sequence is less than the key
+        int low = 0;
+        int high = (size + blockSize - 1) / blockSize - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int head = mid * blockSize;
+            if (compareAt(head, k, mismatch(head, k, 0)) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (high < 0) {
+            return size > 0 && isEqual(0, k) ? 0 : -1;
+        }
+
+        final int head = high * blockSize;
+        final int end = Math.min(size, head + blockSize);
+        int matched = mismatch(head, k, 0);
+        for (int i = head + 1; i < end; ++i) {
+            if (shared[i] < matched) {
+                // the sequence differs from the previous one, which is equal to the key there, and is greater
+                return -i - 1;
+            }
+            if (shared[i] > matched) {
+                // the sequence is equal to the previous one, which is less than the key, where it differs from the key
+                continue;
+            }
+            matched = mismatch(i, k, matched);
+            final int compared = compareAt(i, k, matched);
+            if (compared >= 0) {
+                return compared == 0 ? i : -i - 1;
+            }
+        }
+        return end < size && isEqual(end, k) ? end : -end - 1;
+    }
+
+    /**
+     * Returns the index of the least sequence greater than or equal to the key.
+     *
+     * @param key the sequence to search for
+     * @return the index of the sequence, or {@link #size()} if there is no such sequence
+     * @throws NullPointerException if key is null
+     */
+    public int ceilingIndex(List<? extends E> key) {
+        final int index = binarySearch(key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Returns the index of the greatest sequence less than or equal to the key.
+     *
+     * @param key the sequence to search for
+     * @return the index of the sequence, or -1 if there is no such sequence
+     * @throws NullPointerException if key is null
+     */
+    public int floorIndex(List<? extends E> key) {
+        final int index = binarySearch(key);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * Returns the least sequence greater than or equal to the key.
+     *
+     * @param key the sequence to search for
+     * @return the sequence, or null if there is no such sequence
+     * @throws NullPointerException if key is null
+     */
+    public List<E> ceiling(List<? extends E> key) {
+        final int index = ceilingIndex(key);
+        return index < size ? get(index) : null;
+    }
+
+    /**
+     * Returns the greatest sequence less than or equal to the key.
+     *
+     * @param key the sequence to search for
+     * @return the sequence, or null if there is no such sequence
+     * @throws NullPointerException if key is null
+     */
+    public List<E> floor(List<? extends E> key) {
+        final int index = floorIndex(key);
+        return index >= 0 ? get(index) : null;
+    }
+
+    /**
+     * Returns an iterator over all sequences, in lexicographical order.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<List<E>> iterator() {
+        return new SequenceIterator(0, new Object[0]);
+    }
+
+    /**
+     * Returns an iterator over sequences which start with the specified prefix, in lexicographical order.
+     *
+     * @param prefix the prefix of sequences
+     * @return the iterator
+     * @throws NullPointerException if prefix is null
+     */
+    public Iterator<List<E>> prefixRange(List<? extends E> prefix) {
+        Objects.requireNonNull(prefix, "prefix");
+        return new SequenceIterator(ceilingIndex(prefix), prefix.toArray());
+    }
+
+    private int length(int index) {
+        return shared[index] + offsets[index + 1] - offsets[index];
+    }
+
+    private Object elementAt(int index, int position) {
+        return elements[offsets[index] + position - shared[index]];
+    }
+
+    /**
+     * Finds the first position, starting from the specified one, where the sequence differs from the key.
+     * Positions before the starting one must be equal.
+     *
+     * @return the position of the first mismatch, or the length of the shorter one
+     */
+    private int mismatch(int index, Object[] key, int from) {
+        final int length = Math.min(length(index), key.length);
+        int position = from;
+        for (; position < length && compareElements(elementAt(index, position), key[position]) == 0; ++position) {
+        }
+        return position;
+    }
+
+    private int mismatch(Object[] s1, Object[] s2, int from) {
+        final int length = Math.min(s1.length, s2.length);
+        int position = from;
+        for (; position < length && compareElements(s1[position], s2[position]) == 0; ++position) {
+        }
+        return position;
+    }
+
+    /**
+     * Compares the sequence with the key, given the position of their first mismatch.
+     */
+    private int compareAt(int index, Object[] key, int mismatch) {
+        final int length = length(index);
+        if (mismatch == length || mismatch == key.length) {
+            return Integer.compare(length, key.length);
+        }
+        return compareElements(elementAt(index, mismatch), key[mismatch]);
+    }
+
+    private int compareAt(Object[] s1, Object[] s2, int mismatch) {
+        if (mismatch == s1.length || mismatch == s2.length) {
+            return Integer.compare(s1.length, s2.length);
+        }
+        return compareElements(s1[mismatch], s2[mismatch]);
+    }
+
+    private boolean isEqual(int index, Object[] key) {
+        return compareAt(index, key, mismatch(index, key, 0)) == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compareElements(Object e1, Object e2) {
+        return comparator == null
+                ? ((Comparable<Object>) e1).compareTo(e2)
+                : ((Comparator<Object>) comparator).compare(e1, e2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<E> view(Object[] sequence) {
+        return Collections.unmodifiableList(Arrays.asList((E[]) sequence));
+    }
+
+    /**
+     * Iterator which decodes sequences one after another into a reusable buffer.
+     */
+    private final class SequenceIterator implements Iterator<List<E>> {
+        private final Object[] buffer = new Object[maxLength];
+        private final Object[] prefix;
+        private int index;
+        private int length;
+
+        SequenceIterator(int from, Object[] prefix) {
+            this.prefix = prefix;
+            for (index = from - from % blockSize; index < from; ++index) {
+                decode();
+            }
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return length >= 0;
+        }
+
+        @Override
+        public List<E> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final List<E> result = view(Arrays.copyOf(buffer, length));
+            ++index;
+            advance();
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove() is not supported");
+        }
+
+        private void advance() {
+            if (index >= size) {
+                length = -1;
+                return;
+            }
+
+            decode();
+            if (length < prefix.length || mismatch(buffer, prefix, 0) < prefix.length) {
+                length = -1;
+            }
+        }
+
+        private void decode() {
+            length = length(index);
+            System.arraycopy(elements, offsets[index], buffer, shared[index], length - shared[index]);
+        }
+    }
+
+}
@@ -0,0 +1,181 @@
+package io.github.hextriclosan.algorithm.collections;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * An order-independent fingerprint of a multiset of elements.
+ * <p>
+ * The fingerprint is a sum of strongly mixed element hash codes together with the number of elements.
+ * As the sum is commutative, the fingerprint may be updated as elements are added or removed, and fingerprints
+ * of disjoint shards may be merged, without rescanning the elements.
+ * <p>
+ * Multisets with different fingerprints are never permutations of each other, so the fingerprint rejects
+ * such pairs in O(1). Equal fingerprints only suggest that multisets are equal, the exact check, e.g. with
+ * {@link io.github.hextriclosan.algorithm.functors.IsPermutationPredicate}, should be used to confirm it.
+ * <p>
+ * Natural elements equality is assumed, i.e. equal elements must have equal hash codes.
+ *
+ * @param <E> the type of elements being fingerprinted
+ */
+public class MultisetFingerprint<E> implements Serializable {
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = -2207375426418536871L;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The sum of mixed hash codes of the elements
+     */
+    private long sum;
+
+    /**
+     * The number of elements
+     */
+    private long size;
+
+    /**
+     * Constructs a fingerprint of an empty multiset.
+     */
+    public MultisetFingerprint() {
+    }
+
+    /**
+     * Constructs a fingerprint of the elements of the specified Iterable.
+     *
+     * @param elements the elements to fingerprint
+     * @param <E> the type of elements being fingerprinted
+     * @return the fingerprint of the elements
+     * @throws NullPointerException if elements is null
+     */
+    public static <E> MultisetFingerprint<E> of(Iterable<? extends E> elements) {
+        final MultisetFingerprint<E> fingerprint = new MultisetFingerprint<>();
+        fingerprint.addAll(elements);
+        return fingerprint;
+    }
+
+    /**
+     * Accounts for the specified element being added to the multiset.
+     *
+     * @param element the element added, may be null
+     * @return this fingerprint
+     */
+    public MultisetFingerprint<E> add(E element) {
+        sum += mix(element);
+        ++size;
+        return this;
+    }
+
+    /**
+     * Accounts for the elements of the specified Iterable being added to the multiset.
+     *
+     * @param elements the elements added
+     * @return this fingerprint
+     * @throws NullPointerException if elements is null
+     */
+    public MultisetFingerprint<E> addAll(Iterable<? extends E> elements) {
+        Objects.requireNonNull(elements, "elements");
+        for (E element : elements) {
+            add(element);
+        }
+        return this;
+    }
+
+    /**
+     * Accounts for the specified element being removed from the multiset.
+     * The element is expected to be present in the multiset.
+     *
+     * @param element the element removed, may be null
+     * @return this fingerprint
+     * @throws IllegalStateException if the multiset is empty
+     */
+    public MultisetFingerprint<E> remove(E element) {
+        if (size == 0) {
+            throw new IllegalStateException("Multiset is empty");
+        }
+        sum -= mix(element);
+        --size;
+        return this;
+    }
+
+    /**
+     * Accounts for all the elements of another multiset, e.g. a shard, being added to this multiset.
+     *
+     * @param other the fingerprint of another multiset
+     * @return this fingerprint
+     * @throws NullPointerException if other is null
+     */
+    public MultisetFingerprint<E> merge(MultisetFingerprint<? extends E> other) {
+        Objects.requireNonNull(other, "other");
+        sum += other.sum;
+        size += other.size;
+        return this;
+    }
+
+    /**
+     * Evaluates if multiset of this fingerprint may be a permutation of the multiset of another one.
+     *
+     * @param other the fingerprint of another multiset
+     * @return false if multisets are definitely different, true if they are probably equal
+     * @throws NullPointerException if other is null
+     */
+    public boolean mightBePermutationOf(MultisetFingerprint<?> other) {
+        Objects.requireNonNull(other, "other");
+        return size == other.size && sum == other.sum;
+    }
+
+    /**
+     * Returns the number of elements in the multiset.
+     *
+     * @return the number of elements
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the fingerprint value, i.e. the sum of mixed hash codes of the elements.
+     *
+     * @return the fingerprint value
+     */
+    public long value() {
+        return sum;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        MultisetFingerprint<?> that = (MultisetFingerprint<?>) o;
+        return sum == that.sum && size == that.size;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sum, size);
+    }
+
+    /**
+     * Mixes element hash code with the finalizer of MurmurHash3, so that similar hash codes,
+     * like the ones of small integers, differ in many bits and do not cancel each other out in the sum.
+     */
+    private static long mix(Object element) {
+        long hash = (Objects.hashCode(element) + GOLDEN_GAMMA) * GOLDEN_GAMMA;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
@@ -2,12 +2,19 @@
 package io.github.hextriclosan.algorithm.comparators;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
  * A Comparator that will compare Iterables in lexicographical order.
+ * <p>
+ * {@link RandomAccess} lists are compared by index, without allocating iterators.
+ * Arrays of primitives can be compared in the same order by comparators returned from static factory methods,
+ * which use intrinsified {@link Arrays#compare(int[], int[])} family of methods.
  *
  * @param <E> the type of the objects being compared
  */
@@ -18,6 +25,15 @@ public class LexicographicalComparator<E> implements Comparator<Iterable<E>>, Se
      */
     private static final long serialVersionUID = 5411973727779054539L;
 
+    private static final Comparator<int[]> INT_ARRAY_COMPARATOR =
+            (Comparator<int[]> & Serializable) Arrays::compare;
+    private static final Comparator<long[]> LONG_ARRAY_COMPARATOR =
+            (Comparator<long[]> & Serializable) Arrays::compare;
+    private static final Comparator<char[]> CHAR_ARRAY_COMPARATOR =
+            (Comparator<char[]> & Serializable) Arrays::compare;
+    private static final Comparator<byte[]> BYTE_ARRAY_COMPARATOR =
+            (Comparator<byte[]> & Serializable) Arrays::compare;
+
     /**
      * The comparator to use when comparing elements of Iterable,
      * or null if it uses the natural ordering.
@@ -53,6 +69,11 @@ public class LexicographicalComparator<E> implements Comparator<Iterable<E>>, Se
      **/
     @Override
     public int compare(final Iterable<E> o1, final Iterable<E> o2) {
+        if (o1 instanceof RandomAccess && o2 instanceof RandomAccess
+                && o1 instanceof List && o2 instanceof List) {
+            return compare((List<E>) o1, (List<E>) o2);
+        }
+
         final Iterator<E> it1 = o1.iterator();
         final Iterator<E> it2 = o2.iterator();
 
@@ -69,6 +90,43 @@ public class LexicographicalComparator<E> implements Comparator<Iterable<E>>, Se
         return it2.hasNext() ? -1 : 0;
     }
 
+    /**
+     * Returns a Comparator that compares int arrays in lexicographical order.
+     *
+     * @return the comparator of int arrays
+     */
+    public static Comparator<int[]> intArrays() {
+        return INT_ARRAY_COMPARATOR;
+    }
+
+    /**
+     * Returns a Comparator that compares long arrays in lexicographical order.
+     *
+     * @return the comparator of long arrays
+     */
+    public static Comparator<long[]> longArrays() {
+        return LONG_ARRAY_COMPARATOR;
+    }
+
+    /**
+     * Returns a Comparator that compares char arrays in lexicographical order.
+     *
+     * @return the comparator of char arrays
+     */
+    public static Comparator<char[]> charArrays() {
+        return CHAR_ARRAY_COMPARATOR;
+    }
+
+    /**
+     * Returns a Comparator that compares byte arrays in lexicographical order.
+     * Bytes are compared as signed values, consistently with natural ordering of {@link Byte}.
+     *
+     * @return the comparator of byte arrays
+     */
+    public static Comparator<byte[]> byteArrays() {
+        return BYTE_ARRAY_COMPARATOR;
+    }
+
     /**
      * Determines whether the specified object represents a comparator that is
      * equal to this comparator.
@@ -104,6 +162,20 @@ public class LexicographicalComparator<E> implements Comparator<Iterable<E>>, Se
         return Objects.hash(comparator);
     }
 
+    private int compare(final List<E> l1, final List<E> l2) {
+        final int size1 = l1.size();
+        final int size2 = l2.size();
+        final int size = Math.min(size1, size2);
+        for (int i = 0; i < size; ++i) {
+            final int compared = compareElements(l1.get(i), l2.get(i));
+            if (compared != 0) {
+                return compared;
+            }
+        }
+
+        return Integer.signum(size1 - size2);
+    }
+
     @SuppressWarnings("unchecked")
     private int compareElements(E e1, E e2) {
         return comparator == null
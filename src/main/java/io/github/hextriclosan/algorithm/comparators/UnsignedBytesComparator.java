@@ -0,0 +1,141 @@
+package io.github.hextriclosan.algorithm.comparators;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * A Comparator that will compare remaining bytes of ByteBuffers in lexicographical order,
+ * treating bytes as unsigned values.
+ * <p>
+ * Heap, direct and memory-mapped buffers are compared in place: neither bytes are copied,
+ * nor positions of buffers are changed. Static methods compare slices of byte arrays and
+ * fixed-length ranges of buffers in the same order, reading eight bytes at a time as big-endian longs.
+ * This is the order of serialized keys, e.g. big-endian encoded unsigned numbers.
+ */
+public class UnsignedBytesComparator implements Comparator<ByteBuffer>, Serializable {
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = -4625468125617591405L;
+
+    private static final Comparator<byte[]> BYTE_ARRAY_COMPARATOR =
+            (Comparator<byte[]> & Serializable) Arrays::compareUnsigned;
+
+    /**
+     * Construct an instance that compares remaining bytes of ByteBuffers.
+     */
+    public UnsignedBytesComparator() {
+    }
+
+    /**
+     * Perform a comparison between remaining bytes of two ByteBuffers.
+     *
+     * @param o1 the first ByteBuffer to compare
+     * @param o2 the ByteBuffer to compare it to.
+     * @return a negative integer, zero, or a positive integer as the remaining bytes of {@code o1}
+     * are less than, equal to, or greater than the remaining bytes of {@code o2}.
+     **/
+    @Override
+    public int compare(final ByteBuffer o1, final ByteBuffer o2) {
+        final int mismatch = o1.mismatch(o2);
+        if (mismatch < 0) {
+            return 0;
+        }
+
+        if (mismatch == o1.remaining() || mismatch == o2.remaining()) {
+            return Integer.compare(o1.remaining(), o2.remaining());
+        }
+
+        return Integer.compare(Byte.toUnsignedInt(o1.get(o1.position() + mismatch)),
+                Byte.toUnsignedInt(o2.get(o2.position() + mismatch)));
+    }
+
+    /**
+     * Returns a Comparator that compares byte arrays in lexicographical order, treating bytes as unsigned values.
+     *
+     * @return the comparator of byte arrays
+     */
+    public static Comparator<byte[]> byteArrays() {
+        return BYTE_ARRAY_COMPARATOR;
+    }
+
+    /**
+     * Compares slices of two byte arrays in lexicographical order, treating bytes as unsigned values.
+     *
+     * @param a the first array
+     * @param aFromIndex the index of the first byte of the first slice, inclusive
+     * @param aToIndex the index of the last byte of the first slice, exclusive
+     * @param b the second array
+     * @param bFromIndex the index of the first byte of the second slice, inclusive
+     * @param bToIndex the index of the last byte of the second slice, exclusive
+     * @return a negative integer, zero, or a positive integer as the first slice
+     * is less than, equal to, or greater than the second one.
+     * @throws NullPointerException if either of arrays is null
+     * @throws IndexOutOfBoundsException if either of slices is out of its array
+     */
+    public static int compare(final byte[] a, final int aFromIndex, final int aToIndex,
+                              final byte[] b, final int bFromIndex, final int bToIndex) {
+        return Arrays.compareUnsigned(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+    }
+
+    /**
+     * Compares fixed-length ranges of two ByteBuffers in lexicographical order, treating bytes as unsigned values.
+     * Ranges are addressed by absolute indices, so the same buffer may be passed as both arguments.
+     * Neither positions nor byte orders of buffers are taken into account or changed.
+     *
+     * @param a the first buffer
+     * @param aIndex the index of the first byte of the range of the first buffer
+     * @param b the second buffer
+     * @param bIndex the index of the first byte of the range of the second buffer
+     * @param length the length of ranges
+     * @return a negative integer, zero, or a positive integer as the first range
+     * is less than, equal to, or greater than the second one.
+     * @throws NullPointerException if either of buffers is null
+     * @throws IndexOutOfBoundsException if either of ranges is out of its buffer limit
+     */
+    public static int compare(final ByteBuffer a, final int aIndex, final ByteBuffer b, final int bIndex,
+                              final int length) {
+        Objects.requireNonNull(a, "a");
+        Objects.requireNonNull(b, "b");
+        if (a.hasArray() && b.hasArray()) {
+            final int aFrom = a.arrayOffset() + Objects.checkFromIndexSize(aIndex, length, a.limit());
+            final int bFrom = b.arrayOffset() + Objects.checkFromIndexSize(bIndex, length, b.limit());
+            return Arrays.compareUnsigned(a.array(), aFrom, aFrom + length, b.array(), bFrom, bFrom + length);
+        }
+
+        final boolean aBigEndian = a.order() == ByteOrder.BIG_ENDIAN;
+        final boolean bBigEndian = b.order() == ByteOrder.BIG_ENDIAN;
+        int i = 0;
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            final long aLong = aBigEndian ? a.getLong(aIndex + i) : Long.reverseBytes(a.getLong(aIndex + i));
+            final long bLong = bBigEndian ? b.getLong(bIndex + i) : Long.reverseBytes(b.getLong(bIndex + i));
+            if (aLong != bLong) {
+                return Long.compareUnsigned(aLong, bLong);
+            }
+        }
+        for (; i < length; ++i) {
+            final int compared = Integer.compare(Byte.toUnsignedInt(a.get(aIndex + i)),
+                    Byte.toUnsignedInt(b.get(bIndex + i)));
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj != null && obj.getClass().equals(getClass());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+}
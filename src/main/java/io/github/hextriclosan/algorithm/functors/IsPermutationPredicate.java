@@ -1,15 +1,22 @@
 package io.github.hextriclosan.algorithm.functors;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.function.BiPredicate;
+import java.util.stream.Stream;
 
 /**
  * Predicate implementation that checks if there exists a permutation of the first list elements that makes
  * that range equal to the range
  *
- * The worst-case complexity is O(N^2)
+ * When natural equality is used the elements are counted in a hash table, so the expected complexity is O(N).
+ * With a custom predicate no hashing is possible and the worst-case complexity is O(N^2).
  *
  * @param <E> the type of the objects being checked
  */
@@ -59,6 +66,81 @@ public class IsPermutationPredicate<E> implements BiPredicate<List<E>, List<E>>,
             return false;
         }
 
+        if (predicate == null) {
+            return testCounting(first.iterator(), second.iterator());
+        }
+
+        return testPairwise(randomAccess(first), randomAccess(second));
+    }
+
+    /**
+     * Checks if one Iterable is permutation of another.
+     * Each Iterable is traversed exactly once, so non-random-access sources are supported.
+     *
+     * @param first the first Iterable
+     * @param second the second Iterable
+     *
+     * @return true if one Iterable is permutation of another, false otherwise
+     * @throws NullPointerException if either of Iterables is null
+     */
+    public boolean test(Iterable<? extends E> first, Iterable<? extends E> second) {
+        Objects.requireNonNull(first, "first");
+        Objects.requireNonNull(second, "second");
+        return test(first.iterator(), second.iterator());
+    }
+
+    /**
+     * Checks if one Stream is permutation of another.
+     * Each Stream is consumed exactly once, so lazily produced sequences are supported.
+     *
+     * @param first the first Stream
+     * @param second the second Stream
+     *
+     * @return true if one Stream is permutation of another, false otherwise
+     * @throws NullPointerException if either of Streams is null
+     */
+    public boolean test(Stream<? extends E> first, Stream<? extends E> second) {
+        Objects.requireNonNull(first, "first");
+        Objects.requireNonNull(second, "second");
+        return test(first.iterator(), second.iterator());
+    }
+
+    private boolean test(Iterator<? extends E> first, Iterator<? extends E> second) {
+        if (predicate == null) {
+            return testCounting(first, second);
+        }
+
+        return testPairwise(collect(first), collect(second));
+    }
+
+    private boolean testCounting(Iterator<? extends E> first, Iterator<? extends E> second) {
+        final Map<E, Integer> counts = new HashMap<>();
+        while (first.hasNext()) {
+            counts.merge(first.next(), 1, Integer::sum);
+        }
+
+        while (second.hasNext()) {
+            final E element = second.next();
+            final Integer count = counts.get(element);
+            if (count == null) {
+                return false;
+            }
+
+            if (count == 1) {
+                counts.remove(element);
+            } else {
+                counts.put(element, count - 1);
+            }
+        }
+
+        return counts.isEmpty();
+    }
+
+    private boolean testPairwise(List<E> first, List<E> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+
         int firstIndex = 0;
         int secondIndex = 0;
         //  shorten sequences as much as possible by lopping of any equal prefix
@@ -127,6 +209,16 @@ public class IsPermutationPredicate<E> implements BiPredicate<List<E>, List<E>>,
         return Objects.hash(predicate);
     }
 
+    private static <E> List<E> randomAccess(List<E> list) {
+        return list instanceof RandomAccess ? list : new ArrayList<>(list);
+    }
+
+    private static <E> List<E> collect(Iterator<? extends E> iterator) {
+        final List<E> list = new ArrayList<>();
+        iterator.forEachRemaining(list::add);
+        return list;
+    }
+
     private boolean testElements(E e1, E e2) {
         return predicate == null
                 ? Objects.equals(e1, e2)
@@ -0,0 +1,348 @@
+package io.github.hextriclosan.algorithm.functors;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+
+/**
+ * Predicate implementation that checks if one file of fixed-width records holds a permutation
+ * of the records of another file, i.e. both files hold the same multiset of records.
+ * <p>
+ * Files that fit into the memory budget are sorted in memory and compared.
+ * Larger files are hash-partitioned into spill files, so that equal records always land
+ * in partitions with the same number, and the partitions are compared pairwise.
+ * Partitions that still exceed the budget are partitioned again with another hash seed.
+ * Records are compared as raw bytes.
+ * <p>
+ * While partitioning, the budget is shared by the input buffer and the output buffers of all partitions,
+ * and spill files of every level are created in a directory nested into the directory of the level above.
+ * <p>
+ * NOTE: a partition made of many copies of the same record cannot be split any further,
+ * so heavily duplicated inputs may need more memory than the budget.
+ */
+public class IsRecordFilePermutationPredicate implements BiPredicate<Path, Path> {
+
+    /**
+     * Default memory budget, in bytes.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024;
+
+    private static final int MAX_IN_MEMORY_SIZE = Integer.MAX_VALUE - 8;
+    private static final int MAX_BUFFER_SIZE = 1024 * 1024;
+    private static final int MAX_PARTITIONS = 1024;
+    private static final int MAX_DEPTH = 4;
+
+    /**
+     * The size of a record, in bytes
+     */
+    private final int recordSize;
+
+    /**
+     * The maximal amount of memory used for records, in bytes
+     */
+    private final long memoryBudget;
+
+    /**
+     * The directory to create spill files in, or null if the default temporary-file directory is used
+     */
+    private final Path tempDirectory;
+
+    /**
+     * Constructor with default memory budget and temporary-file directory.
+     *
+     * @param recordSize the size of a record, in bytes
+     * @throws IllegalArgumentException if recordSize is not positive
+     */
+    public IsRecordFilePermutationPredicate(int recordSize) {
+        this(recordSize, DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * Constructor with custom memory budget.
+     *
+     * @param recordSize the size of a record, in bytes
+     * @param memoryBudget the maximal amount of memory used for records, in bytes
+     * @throws IllegalArgumentException if recordSize is not positive or memoryBudget can't hold two records
+     */
+    public IsRecordFilePermutationPredicate(int recordSize, long memoryBudget) {
+        this(recordSize, memoryBudget, null);
+    }
+
+    /**
+     * Constructor with custom memory budget and spill files directory.
+     *
+     * @param recordSize the size of a record, in bytes
+     * @param memoryBudget the maximal amount of memory used for records, in bytes
+     * @param tempDirectory the directory to create spill files in,
+     *        or null if the default temporary-file directory is used.
+     * @throws IllegalArgumentException if recordSize is not positive or memoryBudget can't hold two records
+     */
+    public IsRecordFilePermutationPredicate(int recordSize, long memoryBudget, Path tempDirectory) {
+        if (recordSize <= 0) {
+            throw new IllegalArgumentException("recordSize should be positive");
+        }
+        if (memoryBudget < 2L * recordSize) {
+            throw new IllegalArgumentException("memoryBudget should hold at least two records");
+        }
+        this.recordSize = recordSize;
+        this.memoryBudget = memoryBudget;
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Checks if one file of records is permutation of another
+     *
+     * @param first the first file
+     * @param second the second file
+     *
+     * @return true if one file is permutation of another, false otherwise
+     * @throws NullPointerException if either of files is null
+     * @throws IllegalArgumentException if file size is not a multiple of the record size
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    @Override
+    public boolean test(Path first, Path second) {
+        Objects.requireNonNull(first, "first");
+        Objects.requireNonNull(second, "second");
+        try {
+            final long size = Files.size(first);
+            if (size % recordSize != 0) {
+                throw new IllegalArgumentException("file size is not a multiple of the record size: " + first);
+            }
+            if (size != Files.size(second)) {
+                return false;
+            }
+
+            return test(first, second, size, 0, tempDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        IsRecordFilePermutationPredicate that = (IsRecordFilePermutationPredicate) o;
+        return recordSize == that.recordSize && memoryBudget == that.memoryBudget
+                && Objects.equals(tempDirectory, that.tempDirectory);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(recordSize, memoryBudget, tempDirectory);
+    }
+
+    /**
+     * Compares the files, spilling partitions into a directory created in the parent one,
+     * so that partitions of every level are nested into the directory of the level above.
+     */
+    private boolean test(Path first, Path second, long size, int depth, Path parent) throws IOException {
+        if (size <= inMemoryLimit() || depth == MAX_DEPTH) {
+            return testInMemory(first, second, size);
+        }
+
+        final int partitions = partitions(size);
+        final Path directory = parent == null
+                ? Files.createTempDirectory("permutation")
+                : Files.createTempDirectory(parent, "permutation");
+        try {
+            final long[] firstSizes = partition(first, directory.resolve("first"), partitions, depth);
+            final long[] secondSizes = partition(second, directory.resolve("second"), partitions, depth);
+            if (!Arrays.equals(firstSizes, secondSizes)) {
+                return false;
+            }
+
+            for (int i = 0; i < partitions; ++i) {
+                final Path firstPartition = partitionPath(directory.resolve("first"), i);
+                final Path secondPartition = partitionPath(directory.resolve("second"), i);
+                if (!test(firstPartition, secondPartition, firstSizes[i], depth + 1, directory)) {
+                    return false;
+                }
+                Files.delete(firstPartition);
+                Files.delete(secondPartition);
+            }
+
+            return true;
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    private long inMemoryLimit() {
+        final long limit = Math.min(memoryBudget / 2, MAX_IN_MEMORY_SIZE);
+        return limit - limit % recordSize;
+    }
+
+    /**
+     * Returns the number of partitions, so that every partition is expected to fit into half of the budget,
+     * while the input buffer and the buffers of all partitions, each holding at least one record,
+     * fit into the budget together.
+     */
+    private int partitions(long size) {
+        final long expected = (2 * size + memoryBudget - 1) / memoryBudget + 1;
+        final long buffers = memoryBudget / recordSize - 1;
+        return (int) Math.max(2, Math.min(MAX_PARTITIONS, Math.min(expected, buffers)));
+    }
+
+    /**
+     * Splits the file into partitions. The memory budget is shared equally by the input buffer
+     * and the buffers of all partitions.
+     */
+    private long[] partition(Path source, Path prefix, int partitions, int depth) throws IOException {
+        final long[] sizes = new long[partitions];
+        final int bufferSize = bufferSize(memoryBudget / (partitions + 1));
+        final ByteBuffer input = ByteBuffer.allocate(bufferSize);
+        final ByteBuffer[] outputs = new ByteBuffer[partitions];
+        final FileChannel[] channels = new FileChannel[partitions];
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            for (int i = 0; i < partitions; ++i) {
+                outputs[i] = ByteBuffer.allocate(bufferSize);
+                channels[i] = FileChannel.open(partitionPath(prefix, i),
+                        StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            }
+
+            final byte[] array = input.array();
+            int read;
+            while ((read = readFully(channel, input)) > 0) {
+                for (int offset = 0; offset < read; offset += recordSize) {
+                    final int target = Math.floorMod(hash(array, offset, depth), partitions);
+                    final ByteBuffer output = outputs[target];
+                    if (output.remaining() < recordSize) {
+                        writeFully(channels[target], output);
+                    }
+                    output.put(array, offset, recordSize);
+                    sizes[target] += recordSize;
+                }
+            }
+
+            for (int i = 0; i < partitions; ++i) {
+                writeFully(channels[i], outputs[i]);
+            }
+        } finally {
+            for (FileChannel partitionChannel : channels) {
+                if (partitionChannel != null) {
+                    partitionChannel.close();
+                }
+            }
+        }
+
+        return sizes;
+    }
+
+    private int bufferSize(long bytes) {
+        final long size = Math.max(recordSize, Math.min(bytes, MAX_BUFFER_SIZE));
+        return (int) (size - size % recordSize);
+    }
+
+    private boolean testInMemory(Path first, Path second, long size) throws IOException {
+        if (size > MAX_IN_MEMORY_SIZE) {
+            throw new IllegalStateException("partition is too large to be compared in memory: " + size);
+        }
+
+        final byte[] firstRecords = Files.readAllBytes(first);
+        final byte[] secondRecords = Files.readAllBytes(second);
+        sortRecords(firstRecords);
+        sortRecords(secondRecords);
+        return Arrays.equals(firstRecords, secondRecords);
+    }
+
+    /**
+     * Sorts records of the array in place using heapsort, so no extra memory proportional
+     * to the number of records is needed.
+     */
+    private void sortRecords(byte[] records) {
+        final int count = records.length / recordSize;
+        final byte[] temp = new byte[recordSize];
+        for (int i = count / 2 - 1; i >= 0; --i) {
+            siftDown(records, i, count, temp);
+        }
+        for (int end = count - 1; end > 0; --end) {
+            swapRecords(records, 0, end, temp);
+            siftDown(records, 0, end, temp);
+        }
+    }
+
+    private void siftDown(byte[] records, int root, int count, byte[] temp) {
+        int child;
+        while ((child = 2 * root + 1) < count) {
+            if (child + 1 < count && compareRecords(records, child, child + 1) < 0) {
+                ++child;
+            }
+            if (compareRecords(records, root, child) >= 0) {
+                return;
+            }
+            swapRecords(records, root, child, temp);
+            root = child;
+        }
+    }
+
+    private int compareRecords(byte[] records, int i, int j) {
+        final int first = i * recordSize;
+        final int second = j * recordSize;
+        return Arrays.compareUnsigned(records, first, first + recordSize, records, second, second + recordSize);
+    }
+
+    private void swapRecords(byte[] records, int i, int j, byte[] temp) {
+        final int first = i * recordSize;
+        final int second = j * recordSize;
+        System.arraycopy(records, first, temp, 0, recordSize);
+        System.arraycopy(records, second, records, first, recordSize);
+        System.arraycopy(temp, 0, records, second, recordSize);
+    }
+
+    private int hash(byte[] array, int offset, int seed) {
+        long hash = 0x9E3779B97F4A7C15L * (seed + 1);
+        for (int i = offset; i < offset + recordSize; ++i) {
+            hash = (hash ^ array[i]) * 0x100000001B3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) hash;
+    }
+
+    private static Path partitionPath(Path prefix, int partition) {
+        return prefix.resolveSibling(prefix.getFileName() + "-" + partition);
+    }
+
+    private static int readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+        }
+        return buffer.position();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+}
@@ -0,0 +1,215 @@
+package io.github.hextriclosan.algorithm.functors;
+
+import io.github.hextriclosan.algorithm.comparators.UnsignedBytesComparator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Predicate implementation that checks if a file of fixed-width records is sorted by a key.
+ * <p>
+ * The key is a range of bytes of the record, compared as an unsigned big-endian number, i.e. in the
+ * lexicographical order of unsigned bytes. Keys are compared in place, eight bytes at a time, without
+ * deserializing or copying records. The file is memory-mapped in segments, which are checked in parallel
+ * together with their boundaries, and the offset of the earliest violation is reported.
+ */
+public class IsRecordFileSortedPredicate implements Predicate<Path> {
+
+    /**
+     * Default size of a memory-mapped segment, in bytes.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 28;
+
+    /**
+     * The size of a record, in bytes
+     */
+    private final int recordSize;
+
+    /**
+     * The offset of the key within a record, in bytes
+     */
+    private final int keyOffset;
+
+    /**
+     * The length of the key, in bytes
+     */
+    private final int keyLength;
+
+    /**
+     * The number of records in a memory-mapped segment
+     */
+    private final int segmentRecords;
+
+    /**
+     * Constructor for records which are keys themselves.
+     *
+     * @param recordSize the size of a record, in bytes
+     * @throws IllegalArgumentException if recordSize is not positive
+     */
+    public IsRecordFileSortedPredicate(int recordSize) {
+        this(recordSize, 0, recordSize);
+    }
+
+    /**
+     * Constructor for records with a key.
+     *
+     * @param recordSize the size of a record, in bytes
+     * @param keyOffset the offset of the key within a record, in bytes
+     * @param keyLength the length of the key, in bytes
+     * @throws IllegalArgumentException if recordSize is not positive or the key is out of the record
+     */
+    public IsRecordFileSortedPredicate(int recordSize, int keyOffset, int keyLength) {
+        this(recordSize, keyOffset, keyLength, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructor with custom segment size.
+     *
+     * @param recordSize the size of a record, in bytes
+     * @param keyOffset the offset of the key within a record, in bytes
+     * @param keyLength the length of the key, in bytes
+     * @param segmentSize the size of a memory-mapped segment, in bytes, rounded down to the record size.
+     *                    It is clamped to {@code (Integer.MAX_VALUE / recordSize - 1) * recordSize}, so that
+     *                    a segment mapped together with the last record of the previous one fits into 2 GiB.
+     * @throws IllegalArgumentException if recordSize is not positive, the key is out of the record
+     *         or the segment can't hold a record
+     */
+    public IsRecordFileSortedPredicate(int recordSize, int keyOffset, int keyLength, int segmentSize) {
+        if (recordSize <= 0) {
+            throw new IllegalArgumentException("recordSize should be positive");
+        }
+        if (keyOffset < 0 || keyLength < 0 || keyOffset > recordSize - keyLength) {
+            throw new IllegalArgumentException("key should be within the record");
+        }
+        if (segmentSize < recordSize) {
+            throw new IllegalArgumentException("segmentSize should hold a record");
+        }
+        this.recordSize = recordSize;
+        this.keyOffset = keyOffset;
+        this.keyLength = keyLength;
+        // one more record is mapped to check the boundary, and a mapping can't exceed Integer.MAX_VALUE bytes
+        this.segmentRecords = Math.max(1, Math.min(segmentSize / recordSize, Integer.MAX_VALUE / recordSize - 1));
+    }
+
+    /**
+     * Evaluates if given file is sorted
+     *
+     * @param path the file to evaluate
+     * @return true if sorted, false otherwise
+     *
+     * @throws NullPointerException if path is null
+     * @throws IllegalArgumentException if file size is not a multiple of the record size
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    @Override
+    public boolean test(Path path) {
+        Objects.requireNonNull(path, "path");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return isSortedUntil(channel) == channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Finds the end of the sorted prefix of given file
+     *
+     * @param path the file to evaluate
+     * @return the offset of the first record whose key is less than the key of its predecessor,
+     *         or the file size if the whole file is sorted
+     *
+     * @throws NullPointerException if path is null
+     * @throws IllegalArgumentException if file size is not a multiple of the record size
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    public long isSortedUntil(Path path) {
+        Objects.requireNonNull(path, "path");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return isSortedUntil(channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        IsRecordFileSortedPredicate that = (IsRecordFileSortedPredicate) o;
+        return recordSize == that.recordSize && keyOffset == that.keyOffset && keyLength == that.keyLength
+                && segmentRecords == that.segmentRecords;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(recordSize, keyOffset, keyLength, segmentRecords);
+    }
+
+    private long isSortedUntil(FileChannel channel) throws IOException {
+        final long size = channel.size();
+        if (size % recordSize != 0) {
+            throw new IllegalArgumentException("file size is not a multiple of the record size");
+        }
+
+        final long records = size / recordSize;
+        final int segments = (int) ((records + segmentRecords - 1) / segmentRecords);
+        final AtomicLong earliest = new AtomicLong(records);
+        IntStream.range(0, segments).parallel().forEach(segment -> {
+            final long from = (long) segment * segmentRecords;
+            if (from >= earliest.get()) {
+                return;
+            }
+
+            final long to = Math.min(records, from + segmentRecords);
+            // the previous record is mapped too, so that the boundary with the previous segment is checked
+            final long first = Math.max(0, from - 1);
+            try {
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+                        first * recordSize, (to - first) * recordSize);
+                final long found = firstViolation(buffer, (int) (to - first));
+                if (found >= 0) {
+                    earliest.accumulateAndGet(first + found, Math::min);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return earliest.get() * recordSize;
+    }
+
+    /**
+     * Finds the index of the first record whose key is less than the key of its predecessor
+     *
+     * @return the index of the record in the buffer, or -1 if the buffer is sorted
+     */
+    private int firstViolation(ByteBuffer buffer, int records) {
+        for (int i = 1; i < records; ++i) {
+            final int current = i * recordSize + keyOffset;
+            if (compareKeys(buffer, current - recordSize, current) > 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int compareKeys(ByteBuffer buffer, int first, int second) {
+        return UnsignedBytesComparator.compare(buffer, first, buffer, second, keyLength);
+    }
+
+}
@@ -4,12 +4,24 @@ package io.github.hextriclosan.algorithm.functors;
 import java.io.Serializable;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 
 /**
  * Predicate implementation that checks if Iterable elements are sorted.
+ * <p>
+ * Besides the boolean check, {@code isSortedUntil} methods, inspired by {@code is_sorted_until} algorithm from C++
+ * standard library, report where the sorted range ends. Random access lists and arrays may be checked in parallel,
+ * in this case chunks and their boundaries are checked concurrently and the earliest violation is reported.
+ * <p>
+ * Static overloads for arrays of primitives compare values without boxing, using the natural order of the type.
  *
  * @param <T> the type of the objects being compared
  */
@@ -20,6 +32,16 @@ public final class IsSortedPredicate<T> implements Predicate<Iterable<T>>, Seria
      */
     private static final long serialVersionUID = 4163929177396440253L;
 
+    /**
+     * Minimal number of elements checked by one parallel task.
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 13;
+
+    /**
+     * Number of elements checked between polls of the earliest violation found by other tasks.
+     */
+    private static final int POLL_INTERVAL = 1 << 10;
+
     /**
      * The custom comparator used to check order,
      * or null if it uses the natural ordering.
@@ -75,6 +97,253 @@ public final class IsSortedPredicate<T> implements Predicate<Iterable<T>>, Seria
         return true;
     }
 
+    /**
+     * Finds the end of the sorted prefix of given Iterable
+     *
+     * @param iterable Iterable to evaluate
+     * @return the index of the first element which is less than its predecessor,
+     *         or the number of elements if the whole Iterable is sorted
+     *
+     * @throws NullPointerException if iterable or any of it elements are null
+     */
+    public int isSortedUntil(Iterable<T> iterable) {
+        Objects.requireNonNull(iterable, "iterable");
+        final Iterator<T> iterator = iterable.iterator();
+        if (!iterator.hasNext()) {
+            return 0;
+        }
+
+        T prev = iterator.next();
+        int index = 1;
+        for (; iterator.hasNext(); ++index) {
+            T curr = iterator.next();
+            if (compareElements(prev, curr) > 0) {
+                return index;
+            }
+
+            prev = curr;
+        }
+
+        return index;
+    }
+
+    /**
+     * Finds the end of the sorted prefix of given array
+     *
+     * @param array array to evaluate
+     * @return the index of the first element which is less than its predecessor,
+     *         or the array length if the whole array is sorted
+     *
+     * @throws NullPointerException if array or any of it elements are null
+     */
+    public int isSortedUntil(T[] array) {
+        Objects.requireNonNull(array, "array");
+        int i = 1;
+        for (; i < array.length && compareElements(array[i - 1], array[i]) <= 0; ++i) {
+        }
+        return Math.min(i, array.length);
+    }
+
+    /**
+     * Finds the end of the sorted prefix of given list, checking chunks of {@link RandomAccess} lists in parallel.
+     * Other lists are checked sequentially.
+     *
+     * @param list list to evaluate
+     * @return the index of the first element which is less than its predecessor,
+     *         or the list size if the whole list is sorted
+     *
+     * @throws NullPointerException if list or any of it elements are null
+     */
+    public int parallelIsSortedUntil(List<T> list) {
+        Objects.requireNonNull(list, "list");
+        if (!(list instanceof RandomAccess)) {
+            return isSortedUntil(list);
+        }
+
+        return parallelIsSortedUntil(list.size(), i -> compareElements(list.get(i - 1), list.get(i)) > 0);
+    }
+
+    /**
+     * Finds the end of the sorted prefix of given array, checking chunks of the array in parallel.
+     *
+     * @param array array to evaluate
+     * @return the index of the first element which is less than its predecessor,
+     *         or the array length if the whole array is sorted
+     *
+     * @throws NullPointerException if array or any of it elements are null
+     */
+    public int parallelIsSortedUntil(T[] array) {
+        Objects.requireNonNull(array, "array");
+        return parallelIsSortedUntil(array.length, i -> compareElements(array[i - 1], array[i]) > 0);
+    }
+
+    /**
+     * Evaluates if given array is sorted in ascending order
+     *
+     * @param array array to evaluate
+     * @return true if sorted, false otherwise
+     *
+     * @throws NullPointerException if array is null
+     */
+    public static boolean isSorted(int[] array) {
+        return isSortedUntil(array) == array.length;
+    }
+
+    /**
+     * Finds the end of the ascending prefix of given array
+     *
+     * @param array array to evaluate
+     * @return the index of the first element which is less than its predecessor,
+     *         or the array length if the whole array is sorted
+     *
+     * @throws NullPointerException if array is null
+     */
+    public static int isSortedUntil(int[] array) {
+        Objects.requireNonNull(array, "array");
+        final int length = array.length;
+        int i = 1;
+        // compare four pairs per iteration without short-circuiting to keep the loop body branch-free
+        for (; i + 3 < length; i += 4) {
+            if (array[i - 1] > array[i] | array[i] > array[i + 1]
+                    | array[i + 1] > array[i + 2] | array[i + 2] > array[i + 3]) {
+                break;
+            }
+        }
+        for (; i < length && array[i - 1] <= array[i]; ++i) {
+        }
+        return Math.min(i, length);
+    }
+
+    /**
+     * Evaluates if given array is sorted in ascending order
+     *
+     * @param array array to evaluate
+     * @return true if sorted, false otherwise
+     *
+     * @throws NullPointerException if array is null
+     */
+    public static boolean isSorted(long[] array) {
+        return isSortedUntil(array) == array.length;
+    }
+
+    /**
+     * Finds the end of the ascending prefix of given array
+     *
+     * @param array array to evaluate
+     * @return the index of the first element which is less than its predecessor,
+     *         or the array length if the whole array is sorted
+     *
+     * @throws NullPointerException if array is null
+     */
+    public static int isSortedUntil(long[] array) {
+        Objects.requireNonNull(array, "array");
+        final int length = array.length;
+        int i = 1;
+        for (; i + 3 < length; i += 4) {
+            if (array[i - 1] > array[i] | array[i] > array[i + 1]
+                    | array[i + 1] > array[i + 2] | array[i + 2] > array[i + 3]) {
+                break;
+            }
+        }
+        for (; i < length && array[i - 1] <= array[i]; ++i) {
+        }
+        return Math.min(i, length);
+    }
+
+    /**
+     * Evaluates if given array is sorted in ascending order.
+     * The total order of {@link Double#compare(double, double)} is used, i.e. {@code -0.0} is less than
+     * {@code 0.0} and NaN is greater than any other value.
+     *
+     * @param array array to evaluate
+     * @return true if sorted, false otherwise
+     *
+     * @throws NullPointerException if array is null
+     */
+    public static boolean isSorted(double[] array) {
+        return isSortedUntil(array) == array.length;
+    }
+
+    /**
+     * Finds the end of the ascending prefix of given array.
+     * The total order of {@link Double#compare(double, double)} is used, i.e. {@code -0.0} is less than
+     * {@code 0.0} and NaN is greater than any other value.
+     *
+     * @param array array to evaluate
+     * @return the index of the first element which is less than its predecessor,
+     *         or the array length if the whole array is sorted
+     *
+     * @throws NullPointerException if array is null
+     */
+    public static int isSortedUntil(double[] array) {
+        Objects.requireNonNull(array, "array");
+        final int length = array.length;
+        if (length == 0) {
+            return 0;
+        }
+
+        long prev = sortableBits(array[0]);
+        int i = 1;
+        for (; i + 3 < length; i += 4) {
+            final long b0 = sortableBits(array[i]);
+            final long b1 = sortableBits(array[i + 1]);
+            final long b2 = sortableBits(array[i + 2]);
+            final long b3 = sortableBits(array[i + 3]);
+            if (prev > b0 | b0 > b1 | b1 > b2 | b2 > b3) {
+                break;
+            }
+            prev = b3;
+        }
+        for (; i < length; ++i) {
+            final long curr = sortableBits(array[i]);
+            if (prev > curr) {
+                return i;
+            }
+            prev = curr;
+        }
+        return length;
+    }
+
+    /**
+     * Evaluates if given array is sorted in ascending order, treating bytes as unsigned values.
+     *
+     * @param array array to evaluate
+     * @return true if sorted, false otherwise
+     *
+     * @throws NullPointerException if array is null
+     */
+    public static boolean isSorted(byte[] array) {
+        return isSortedUntil(array) == array.length;
+    }
+
+    /**
+     * Finds the end of the ascending prefix of given array, treating bytes as unsigned values.
+     *
+     * @param array array to evaluate
+     * @return the index of the first element which is less than its predecessor,
+     *         or the array length if the whole array is sorted
+     *
+     * @throws NullPointerException if array is null
+     */
+    public static int isSortedUntil(byte[] array) {
+        Objects.requireNonNull(array, "array");
+        final int length = array.length;
+        int i = 1;
+        for (; i + 3 < length; i += 4) {
+            final int b0 = array[i - 1] & 0xFF;
+            final int b1 = array[i] & 0xFF;
+            final int b2 = array[i + 1] & 0xFF;
+            final int b3 = array[i + 2] & 0xFF;
+            final int b4 = array[i + 3] & 0xFF;
+            if (b0 > b1 | b1 > b2 | b2 > b3 | b3 > b4) {
+                break;
+            }
+        }
+        for (; i < length && (array[i - 1] & 0xFF) <= (array[i] & 0xFF); ++i) {
+        }
+        return Math.min(i, length);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -94,6 +363,56 @@ public final class IsSortedPredicate<T> implements Predicate<Iterable<T>>, Seria
         return Objects.hash(comparator);
     }
 
+    /**
+     * Finds the least index in [1, size) for which the predicate holds.
+     * Every task polls the earliest violation found so far and quits as soon as it can't find an earlier one.
+     *
+     * @param size the number of elements
+     * @param violation the predicate which holds if the element at index is less than its predecessor
+     * @return the least index of violation, or size if there is no violation
+     */
+    private static int parallelIsSortedUntil(int size, IntPredicate violation) {
+        final int chunks = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, size / MIN_CHUNK_SIZE));
+        if (chunks == 1) {
+            return firstViolation(1, size, size, violation);
+        }
+
+        final AtomicInteger earliest = new AtomicInteger(size);
+        final int chunkSize = (size + chunks - 1) / chunks;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final int from = Math.max(1, chunk * chunkSize);
+            final int to = (int) Math.min(size, (long) (chunk + 1) * chunkSize);
+            for (int start = from; start < to && start < earliest.get(); start += POLL_INTERVAL) {
+                final int end = Math.min(to, start + POLL_INTERVAL);
+                final int found = firstViolation(start, end, size, violation);
+                if (found != size) {
+                    earliest.accumulateAndGet(found, Math::min);
+                    return;
+                }
+            }
+        });
+
+        return earliest.get();
+    }
+
+    /**
+     * Maps double to long, so that signed comparison of longs matches {@link Double#compare(double, double)}.
+     * Negative values have all the bits but the sign flipped, NaNs are collapsed into the canonical one.
+     */
+    private static long sortableBits(double value) {
+        final long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    private static int firstViolation(int from, int to, int notFound, IntPredicate violation) {
+        for (int i = from; i < to; ++i) {
+            if (violation.test(i)) {
+                return i;
+            }
+        }
+        return notFound;
+    }
+
     @SuppressWarnings("unchecked")
     private int compareElements(T t1, T t2) {
         return comparator == null
@@ -0,0 +1,85 @@
+package io.github.hextriclosan.algorithm.functors;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * Function implementation that computes the difference of two multisets given as Iterables.
+ * <p>
+ * The result maps every element whose number of occurrences differs to the signed difference of counts:
+ * a positive count means that the first Iterable has surplus occurrences of the element, a negative count
+ * means that it lacks them compared to the second one. Equal multisets, i.e. permutations of each other,
+ * produce an empty map. Elements are mapped in the order of their first occurrence.
+ * <p>
+ * Elements are counted in a hash table in a single pass over each Iterable, so the expected complexity is O(N).
+ * Natural elements equality is used for comparing. For sorted inputs
+ * {@link io.github.hextriclosan.algorithm.iterators.SortedDifferenceIterator} computes
+ * the same difference lazily in constant memory.
+ *
+ * @param <E> the type of the objects being compared
+ */
+public class MultisetDifferenceFunction<E> implements BiFunction<Iterable<E>, Iterable<E>, Map<E, Integer>>, Serializable {
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = 2968262155310342153L;
+
+    /**
+     * Standard constructor for this class.
+     */
+    public MultisetDifferenceFunction() {
+    }
+
+    /**
+     * Computes the difference of two multisets
+     *
+     * @param first the first Iterable
+     * @param second the second Iterable
+     *
+     * @return the map of elements to signed difference of their counts, empty if one Iterable
+     *         is permutation of another
+     * @throws NullPointerException if either of Iterables is null
+     */
+    @Override
+    public Map<E, Integer> apply(Iterable<E> first, Iterable<E> second) {
+        Objects.requireNonNull(first, "first");
+        Objects.requireNonNull(second, "second");
+
+        final Map<E, Integer> difference = new LinkedHashMap<>();
+        for (E element : first) {
+            difference.merge(element, 1, Integer::sum);
+        }
+
+        for (E element : second) {
+            final Integer count = difference.get(element);
+            if (count == null) {
+                difference.put(element, -1);
+            } else if (count == 1) {
+                difference.remove(element);
+            } else {
+                difference.put(element, count - 1);
+            }
+        }
+
+        return difference;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        return o != null && getClass() == o.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+}
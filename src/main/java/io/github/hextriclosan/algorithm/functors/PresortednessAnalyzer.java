@@ -0,0 +1,307 @@
+package io.github.hextriclosan.algorithm.functors;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Function implementation that measures how far a list is from being sorted.
+ * <p>
+ * The result holds the following measures of presortedness:
+ * <ul>
+ *     <li>the number of inversions, i.e. pairs of elements which are out of order;</li>
+ *     <li>the number of maximal non-descending runs;</li>
+ *     <li>the maximal distance between the position of an element and its position in the stable sorted order;</li>
+ *     <li>the length of the longest sorted prefix.</li>
+ * </ul>
+ * Inversions and displacements are found by a merge sort of element indices, which runs
+ * on the common fork-join pool, so the complexity is O(N log N). Elements are not moved.
+ * <p>
+ * Static overloads for arrays of primitives compare values without boxing, using the natural order of the type.
+ *
+ * @param <T> the type of the objects being compared
+ */
+public final class PresortednessAnalyzer<T> implements Function<List<T>, PresortednessAnalyzer.Presortedness>, Serializable {
+
+    /**
+     * Measures of presortedness of a sequence.
+     *
+     * @param size the number of elements
+     * @param inversions the number of pairs of elements which are out of order
+     * @param runs the number of maximal non-descending runs, zero for an empty sequence
+     * @param maxDisplacement the maximal distance between the position of an element
+     *                        and its position in the stable sorted order
+     * @param sortedPrefix the length of the longest sorted prefix
+     */
+    public record Presortedness(int size, long inversions, int runs, int maxDisplacement, int sortedPrefix) {
+
+        /**
+         * Indicates if the sequence is sorted.
+         *
+         * @return true if sorted, false otherwise
+         */
+        public boolean isSorted() {
+            return sortedPrefix == size;
+        }
+    }
+
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = -3306513930155451728L;
+
+    /**
+     * Size of the range which is sorted with insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /**
+     * Size of the range which is not split into parallel tasks.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * The custom comparator used to check order,
+     * or null if it uses the natural ordering.
+     */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Standard constructor for this class.
+     *
+     * Natural elements ordering is used for comparing.
+     */
+    public PresortednessAnalyzer() {
+        this(null);
+    }
+
+    /**
+     * Constructor with custom comparator
+     *
+     * @param comparator the custom comparator used to check order,
+     *        or null if it uses the natural ordering.
+     */
+    public PresortednessAnalyzer(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Measures presortedness of given list. Lists which are not {@link RandomAccess} are copied first.
+     *
+     * @param list list to evaluate
+     * @return measures of presortedness
+     *
+     * @throws NullPointerException if list or any of it elements are null
+     */
+    @Override
+    public Presortedness apply(List<T> list) {
+        Objects.requireNonNull(list, "list");
+        final List<T> elements = list instanceof RandomAccess ? list : new ArrayList<>(list);
+        return analyze(elements.size(), (i, j) -> compareElements(elements.get(i), elements.get(j)));
+    }
+
+    /**
+     * Measures presortedness of given array.
+     *
+     * @param array array to evaluate
+     * @return measures of presortedness
+     *
+     * @throws NullPointerException if array or any of it elements are null
+     */
+    public Presortedness apply(T[] array) {
+        Objects.requireNonNull(array, "array");
+        return analyze(array.length, (i, j) -> compareElements(array[i], array[j]));
+    }
+
+    /**
+     * Measures presortedness of given array.
+     *
+     * @param array array to evaluate
+     * @return measures of presortedness
+     *
+     * @throws NullPointerException if array is null
+     */
+    public static Presortedness analyze(int[] array) {
+        Objects.requireNonNull(array, "array");
+        return analyze(array.length, (i, j) -> Integer.compare(array[i], array[j]));
+    }
+
+    /**
+     * Measures presortedness of given array.
+     *
+     * @param array array to evaluate
+     * @return measures of presortedness
+     *
+     * @throws NullPointerException if array is null
+     */
+    public static Presortedness analyze(long[] array) {
+        Objects.requireNonNull(array, "array");
+        return analyze(array.length, (i, j) -> Long.compare(array[i], array[j]));
+    }
+
+    /**
+     * Measures presortedness of given array.
+     * The total order of {@link Double#compare(double, double)} is used.
+     *
+     * @param array array to evaluate
+     * @return measures of presortedness
+     *
+     * @throws NullPointerException if array is null
+     */
+    public static Presortedness analyze(double[] array) {
+        Objects.requireNonNull(array, "array");
+        return analyze(array.length, (i, j) -> Double.compare(array[i], array[j]));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        PresortednessAnalyzer<?> that = (PresortednessAnalyzer<?>) o;
+        return Objects.equals(comparator, that.comparator);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(comparator);
+    }
+
+    private static Presortedness analyze(int size, IndexComparator comparator) {
+        int runs = size == 0 ? 0 : 1;
+        int sortedPrefix = size;
+        for (int i = 1; i < size; ++i) {
+            if (comparator.compare(i - 1, i) > 0) {
+                if (runs == 1) {
+                    sortedPrefix = i;
+                }
+                ++runs;
+            }
+        }
+
+        if (sortedPrefix == size) {
+            return new Presortedness(size, 0, runs, 0, size);
+        }
+
+        final int[] order = new int[size];
+        for (int i = 0; i < size; ++i) {
+            order[i] = i;
+        }
+        final long inversions = new InversionCountingSort(order, new int[size], 0, size, comparator).invoke();
+
+        int maxDisplacement = 0;
+        for (int position = 0; position < size; ++position) {
+            maxDisplacement = Math.max(maxDisplacement, Math.abs(order[position] - position));
+        }
+
+        return new Presortedness(size, inversions, runs, maxDisplacement, sortedPrefix);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compareElements(T t1, T t2) {
+        return comparator == null
+                ? ((Comparable<? super T>) t1).compareTo(t2)
+                : comparator.compare(t1, t2);
+    }
+
+    /**
+     * Comparator of elements by their indices.
+     */
+    @FunctionalInterface
+    private interface IndexComparator {
+        int compare(int i, int j);
+    }
+
+    /**
+     * Stable merge sort of element indices which counts inversions, i.e. the number of times
+     * an element is moved before the elements which preceded it.
+     */
+    private static final class InversionCountingSort extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] indices;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+        private final transient IndexComparator comparator;
+
+        InversionCountingSort(int[] indices, int[] buffer, int from, int to, IndexComparator comparator) {
+            this.indices = indices;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected Long compute() {
+            return sort(from, to);
+        }
+
+        private long sort(int lo, int hi) {
+            if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+                return insertionSort(lo, hi);
+            }
+
+            final int mid = (lo + hi) >>> 1;
+            long inversions;
+            if (hi - lo > PARALLEL_THRESHOLD) {
+                final InversionCountingSort left = new InversionCountingSort(indices, buffer, lo, mid, comparator);
+                left.fork();
+                inversions = new InversionCountingSort(indices, buffer, mid, hi, comparator).compute();
+                inversions += left.join();
+            } else {
+                inversions = sort(lo, mid) + sort(mid, hi);
+            }
+
+            return inversions + merge(lo, mid, hi);
+        }
+
+        private long insertionSort(int lo, int hi) {
+            long inversions = 0;
+            for (int i = lo + 1; i < hi; ++i) {
+                final int index = indices[i];
+                int j = i - 1;
+                for (; j >= lo && comparator.compare(indices[j], index) > 0; --j) {
+                    indices[j + 1] = indices[j];
+                }
+                indices[j + 1] = index;
+                inversions += i - 1 - j;
+            }
+            return inversions;
+        }
+
+        private long merge(int lo, int mid, int hi) {
+            if (comparator.compare(indices[mid - 1], indices[mid]) <= 0) {
+                return 0;
+            }
+
+            long inversions = 0;
+            int left = lo;
+            int right = mid;
+            int out = lo;
+            while (left < mid && right < hi) {
+                if (comparator.compare(indices[left], indices[right]) <= 0) {
+                    buffer[out++] = indices[left++];
+                } else {
+                    inversions += mid - left;
+                    buffer[out++] = indices[right++];
+                }
+            }
+            System.arraycopy(indices, left, buffer, out, mid - left);
+            System.arraycopy(buffer, lo, indices, lo, right - lo);
+            return inversions;
+        }
+    }
+
+}
@@ -0,0 +1,221 @@
+package io.github.hextriclosan.algorithm.functors;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * Incremental checker of sort order for unbounded sequences, e.g. live event streams.
+ * <p>
+ * Elements are accepted one at a time, either as a {@link Consumer} or as a {@link Flow.Subscriber}.
+ * Only the previous element is kept. Every element which is less than its predecessor is reported to
+ * the listener together with its position, and running presortedness statistics are maintained:
+ * the number of non-descending runs and the length of the longest one.
+ * <p>
+ * The monitor is not thread-safe, elements are expected to be delivered sequentially.
+ *
+ * @param <T> the type of the objects being compared
+ */
+public class SortednessMonitor<T> implements Consumer<T>, Flow.Subscriber<T> {
+
+    /**
+     * Listener of sort order violations.
+     *
+     * @param <T> the type of the objects being compared
+     */
+    @FunctionalInterface
+    public interface ViolationListener<T> {
+
+        /**
+         * Invoked when an element is less than its predecessor.
+         *
+         * @param position the zero-based position of the element in the sequence
+         * @param previous the predecessor of the element
+         * @param current the element
+         */
+        void onViolation(long position, T previous, T current);
+    }
+
+    /**
+     * The custom comparator used to check order,
+     * or null if it uses the natural ordering.
+     */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * The listener notified about violations.
+     */
+    private final ViolationListener<? super T> listener;
+
+    private T previous;
+    private long count;
+    private long violations;
+    private long runLength;
+    private long longestRun;
+
+    /**
+     * The error the subscription was terminated with, or null.
+     */
+    private Throwable error;
+
+    /**
+     * Indicates if the subscription was completed normally.
+     */
+    private boolean completed;
+
+    /**
+     * Constructs a monitor using the natural elements ordering.
+     *
+     * @param listener the listener notified about violations
+     * @throws NullPointerException if listener is null
+     */
+    public SortednessMonitor(ViolationListener<? super T> listener) {
+        this(null, listener);
+    }
+
+    /**
+     * Constructor with custom comparator
+     *
+     * @param comparator the custom comparator used to check order,
+     *        or null if it uses the natural ordering.
+     * @param listener the listener notified about violations
+     * @throws NullPointerException if listener is null
+     */
+    public SortednessMonitor(Comparator<? super T> comparator, ViolationListener<? super T> listener) {
+        this.comparator = comparator;
+        this.listener = Objects.requireNonNull(listener, "listener");
+    }
+
+    /**
+     * Accepts the next element of the sequence
+     *
+     * @param element the next element
+     * @throws NullPointerException if element is null and natural ordering is used
+     */
+    @Override
+    public void accept(T element) {
+        if (count > 0 && compareElements(previous, element) > 0) {
+            ++violations;
+            runLength = 0;
+            listener.onViolation(count, previous, element);
+        }
+
+        ++count;
+        longestRun = Math.max(longestRun, ++runLength);
+        previous = element;
+    }
+
+    /**
+     * Requests an unbounded number of elements from the subscription.
+     *
+     * @param subscription the subscription
+     */
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    /**
+     * Accepts the next element of the sequence
+     *
+     * @param item the next element
+     */
+    @Override
+    public void onNext(T item) {
+        accept(item);
+    }
+
+    /**
+     * Records the error the subscription was terminated with, see {@link #error()}.
+     * The statistics collected so far stay available, but they cover only a part of the sequence.
+     *
+     * @param throwable the error
+     * @throws NullPointerException if throwable is null
+     */
+    @Override
+    public void onError(Throwable throwable) {
+        error = Objects.requireNonNull(throwable, "throwable");
+    }
+
+    /**
+     * Records that the subscription was completed, see {@link #isCompleted()}.
+     * The statistics collected so far stay available.
+     */
+    @Override
+    public void onComplete() {
+        completed = true;
+    }
+
+    /**
+     * Returns the error the subscription was terminated with, so that statistics of a sequence which
+     * failed partway can be told from ones of a complete sequence.
+     *
+     * @return the error, or null if the subscription was not terminated with an error
+     */
+    public Throwable error() {
+        return error;
+    }
+
+    /**
+     * Indicates if the subscription was completed normally, i.e. the whole sequence was accepted.
+     *
+     * @return true if {@link #onComplete()} was called, otherwise false
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Indicates if all the elements accepted so far are sorted.
+     *
+     * @return true if there were no violations, otherwise false
+     */
+    public boolean isSorted() {
+        return violations == 0;
+    }
+
+    /**
+     * Returns the number of elements accepted so far.
+     *
+     * @return the number of elements
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Returns the number of elements which were less than their predecessors.
+     *
+     * @return the number of violations
+     */
+    public long violations() {
+        return violations;
+    }
+
+    /**
+     * Returns the number of maximal non-descending runs the elements accepted so far consist of.
+     *
+     * @return the number of runs, zero if no elements were accepted
+     */
+    public long runs() {
+        return count == 0 ? 0 : violations + 1;
+    }
+
+    /**
+     * Returns the length of the longest non-descending run of the elements accepted so far.
+     *
+     * @return the length of the longest run
+     */
+    public long longestRun() {
+        return longestRun;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compareElements(T t1, T t2) {
+        return comparator == null
+                ? ((Comparable<? super T>) t1).compareTo(t2)
+                : comparator.compare(t1, t2);
+    }
+
+}
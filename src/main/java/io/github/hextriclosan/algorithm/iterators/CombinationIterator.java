@@ -0,0 +1,323 @@
+package io.github.hextriclosan.algorithm.iterators;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * This iterator creates k-combinations of an input collection, i.e. unordered selections of k of its elements.
+ * Every combination is returned in ascending order, and combinations are returned in the lexicographical order.
+ * <p>
+ * Elements are ranked once, at construction, like in {@link IndexPermutationIterator}: equal elements get
+ * the same rank, so duplicated combinations are sorted out as well. A combination is kept as k positions
+ * in the sorted array of ranks, taking the first occurrences of every rank. The next combination increases
+ * the rightmost position which may move to the next distinct rank and places the following ones right after it,
+ * so every step takes O(k) time without comparisons.
+ * <p>
+ * Combinations may be ranked and unranked with {@link #rank()} and {@link #seek(BigInteger)}, e.g. to resume
+ * or shard the enumeration.
+ * The {@code remove()} operation is not supported, and will throw an
+ * {@code UnsupportedOperationException}.
+ * <p>
+ * NOTE: in case k is zero, the iterator will return exactly one empty list as result.
+ *
+ * @param <E> the type of the objects being selected
+ */
+public class CombinationIterator<E> implements Iterator<List<E>> {
+
+    /**
+     * Distinct elements, indexed by their ranks.
+     */
+    private final Object[] elements;
+
+    /**
+     * Ranks of all elements in ascending order.
+     */
+    private final int[] pool;
+
+    /**
+     * For every position in the pool, the first position holding a greater rank.
+     */
+    private final int[] nextDistinct;
+
+    /**
+     * For every rank, the first position in the pool holding it.
+     */
+    private final int[] firstPositions;
+
+    /**
+     * Positions in the pool of the next combination to return.
+     */
+    private final int[] positions;
+
+    /**
+     * Ranks of elements of the next combination to return.
+     */
+    private final int[] selection;
+
+    /**
+     * The number of occurrences of every rank.
+     */
+    private final int[] counts;
+
+    /**
+     * The number of distinct combinations.
+     */
+    private final BigInteger combinationCount;
+
+    /**
+     * {@code suffixCounts[r][m]} is the number of combinations of m elements of ranks r and greater.
+     * Computed on first use of {@link #rank()} or {@link #seek(BigInteger)}.
+     */
+    private BigInteger[][] suffixCounts;
+
+    /**
+     * Unmodifiable view of the selection, provided by {@link #forEachRemainingInPlace(Consumer)}.
+     */
+    private final List<E> view;
+
+    /**
+     * Indicates if the selection holds the next combination.
+     */
+    private boolean hasNextCombination = true;
+
+    /**
+     * Standard constructor for this class.
+     *
+     * @param collection the collection to select elements of
+     * @param k the number of elements to select
+     * @throws NullPointerException if collection is null
+     * @throws IllegalArgumentException if k is negative or greater than the size of the collection
+     * @throws ClassCastException if elements are not Comparable
+     */
+    public CombinationIterator(final Collection<? extends E> collection, final int k) {
+        this(collection, k, null);
+    }
+
+    /**
+     * Constructor with custom comparator
+     *
+     * @param collection the collection to select elements of
+     * @param k the number of elements to select
+     * @param comparator the comparator used to define order of generation.
+     *                   If null, the natural ordering of the elements will be used.
+     * @throws NullPointerException if collection is null
+     * @throws IllegalArgumentException if k is negative or greater than the size of the collection
+     * @throws ClassCastException if comparator is null and elements are not Comparable
+     */
+    public CombinationIterator(final Collection<? extends E> collection, final int k,
+                               final Comparator<? super E> comparator) {
+        final RankedElements ranked = new RankedElements(collection, comparator);
+        if (k < 0 || k > ranked.ranks.length) {
+            throw new IllegalArgumentException("k should be between 0 and the size of the collection");
+        }
+        elements = ranked.elements;
+        pool = ranked.sortedRanks();
+        counts = ranked.counts;
+
+        nextDistinct = new int[pool.length];
+        for (int i = pool.length - 1; i >= 0; --i) {
+            nextDistinct[i] = i + 1 < pool.length && pool[i + 1] == pool[i] ? nextDistinct[i + 1] : i + 1;
+        }
+        firstPositions = new int[counts.length];
+        for (int r = 1; r < counts.length; ++r) {
+            firstPositions[r] = firstPositions[r - 1] + counts[r - 1];
+        }
+
+        positions = new int[k];
+        selection = new int[k];
+        fill(0, 0);
+        combinationCount = countAll(k);
+        view = new RankView<>(elements, selection, k);
+    }
+
+    /**
+     * Indicates if there are more combinations available.
+     *
+     * @return true if there are more combinations, otherwise false
+     */
+    @Override
+    public boolean hasNext() {
+        return hasNextCombination;
+    }
+
+    /**
+     * Returns the next k-combination of the input collection.
+     *
+     * @return an unmodifiable list of k elements of the collection in ascending order
+     * @throws NoSuchElementException if there are no more combinations
+     */
+    @Override
+    public List<E> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final List<E> result = new RankView<>(elements, selection.clone(), selection.length);
+        hasNextCombination = step();
+        return result;
+    }
+
+    /**
+     * Performs the given action for each remaining combination, in place.
+     * <p>
+     * The action is given the same unmodifiable view every time, which is changed
+     * after the action returns, so no objects are allocated per combination.
+     *
+     * @param action the action to be performed for each combination
+     * @throws NullPointerException if action is null
+     */
+    public void forEachRemainingInPlace(final Consumer<? super List<E>> action) {
+        Objects.requireNonNull(action, "action");
+        while (hasNextCombination) {
+            action.accept(view);
+            hasNextCombination = step();
+        }
+    }
+
+    /**
+     * Returns the number of distinct k-combinations of the input collection,
+     * i.e. the binomial coefficient C(n, k) if all elements are distinct.
+     *
+     * @return the number of combinations
+     */
+    public BigInteger combinationCount() {
+        return combinationCount;
+    }
+
+    /**
+     * Returns the lexicographic rank of the next combination, i.e. the number of combinations preceding it.
+     *
+     * @return the rank of the next combination, or {@link #combinationCount()} if there are no more combinations
+     */
+    public BigInteger rank() {
+        if (!hasNextCombination) {
+            return combinationCount;
+        }
+
+        // combinations taking more occurrences of a rank precede ones taking less of it
+        final int[] taken = MultisetPermutations.counts(selection, counts.length);
+        BigInteger rank = BigInteger.ZERO;
+        for (int r = 0, m = selection.length; r < counts.length && m > 0; m -= taken[r++]) {
+            for (int x = Math.min(counts[r], m); x > taken[r]; --x) {
+                rank = rank.add(suffixCounts()[r + 1][m - x]);
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Makes the combination with given lexicographic rank the next one to return.
+     *
+     * @param rank the rank of the combination, or {@link #combinationCount()} to finish the enumeration
+     * @throws NullPointerException if rank is null
+     * @throws IllegalArgumentException if rank is negative or greater than the number of combinations
+     */
+    public void seek(final BigInteger rank) {
+        Objects.requireNonNull(rank, "rank");
+        if (rank.signum() < 0 || rank.compareTo(combinationCount) > 0) {
+            throw new IllegalArgumentException("rank should be in range [0, combinationCount()]");
+        }
+
+        hasNextCombination = rank.compareTo(combinationCount) < 0;
+        if (!hasNextCombination) {
+            return;
+        }
+
+        BigInteger left = rank;
+        for (int r = 0, i = 0; i < selection.length; ++r) {
+            int x = Math.min(counts[r], selection.length - i);
+            for (BigInteger block; left.compareTo(block = suffixCounts()[r + 1][selection.length - i - x]) >= 0; --x) {
+                left = left.subtract(block);
+            }
+            for (int j = 0; j < x; ++j, ++i) {
+                positions[i] = firstPositions[r] + j;
+                selection[i] = r;
+            }
+        }
+    }
+
+    /**
+     * Operation is not supported, and will throw an {@code UnsupportedOperationException}.
+     */
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove() is not supported");
+    }
+
+    private boolean step() {
+        final int k = positions.length;
+        for (int i = k - 1; i >= 0; --i) {
+            final int position = nextDistinct[positions[i]];
+            if (position <= pool.length - k + i) {
+                fill(i, position);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Places the combination from index i onwards at consecutive positions of the pool, starting from the given one.
+     */
+    private void fill(int i, int position) {
+        for (; i < positions.length; ++i, ++position) {
+            positions[i] = position;
+            selection[i] = pool[position];
+        }
+    }
+
+    private BigInteger[][] suffixCounts() {
+        if (suffixCounts == null) {
+            final BigInteger[][] table = new BigInteger[counts.length + 1][];
+            table[counts.length] = initialRow(positions.length);
+            for (int r = counts.length - 1; r >= 0; --r) {
+                table[r] = nextRow(table[r + 1], counts[r]);
+            }
+            suffixCounts = table;
+        }
+        return suffixCounts;
+    }
+
+    /**
+     * Returns the number of combinations of m elements of any ranks, keeping only a single row of the table.
+     */
+    private BigInteger countAll(int m) {
+        BigInteger[] row = initialRow(m);
+        for (int r = counts.length - 1; r >= 0; --r) {
+            row = nextRow(row, counts[r]);
+        }
+        return row[m];
+    }
+
+    /**
+     * Returns the row of the table for no ranks at all: there is only the empty combination.
+     */
+    private static BigInteger[] initialRow(int k) {
+        final BigInteger[] row = new BigInteger[k + 1];
+        Arrays.fill(row, BigInteger.ZERO);
+        row[0] = BigInteger.ONE;
+        return row;
+    }
+
+    /**
+     * Returns the row of the table for one more rank, taken at most count times.
+     */
+    private static BigInteger[] nextRow(BigInteger[] row, int count) {
+        final BigInteger[] next = new BigInteger[row.length];
+        for (int m = 0; m < row.length; ++m) {
+            next[m] = BigInteger.ZERO;
+            for (int x = 0; x <= Math.min(count, m); ++x) {
+                next[m] = next[m].add(row[m - x]);
+            }
+        }
+        return next;
+    }
+
+}
@@ -0,0 +1,302 @@
+package io.github.hextriclosan.algorithm.iterators;
+
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * This iterator creates permutations of an input collection, using the
+ * lexicographical order, like {@link NextPermutationIterator}.
+ * <p>
+ * Elements are ranked once, at construction: equal elements get the same rank, so duplicated
+ * permutations are sorted out as well. Then permutations are generated on an int array of ranks,
+ * so the comparator is never called again and every step is a few primitive comparisons, swaps and
+ * a reversal. Permutations are returned as lazy views, mapping ranks to elements on access.
+ * <p>
+ * Permutations are ranked and unranked in the multinomial number system, so that enumeration can be
+ * resumed or sharded with {@link #rank()}, {@link #seek(BigInteger)} and {@link #skip(long)} in O(n * k)
+ * arithmetic operations for n elements of k distinct values, rather than by replaying it from the start.
+ * <p>
+ * Equal elements are represented by the first of them in the input collection.
+ * The {@code remove()} operation is not supported, and will throw an
+ * {@code UnsupportedOperationException}.
+ * <p>
+ * NOTE: in case an empty collection is provided, the iterator will
+ * return exactly one empty list as result, as 0! = 1.
+ *
+ * @param <E> the type of the objects being permuted
+ */
+public class IndexPermutationIterator<E> implements Iterator<List<E>> {
+
+    /**
+     * The comparator used to define order of generation,
+     * or null if it uses the natural ordering.
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Distinct elements, indexed by their ranks.
+     */
+    private final Object[] elements;
+
+    /**
+     * Ranks of elements of the next permutation to return.
+     */
+    private final int[] ranks;
+
+    /**
+     * The number of occurrences of every rank.
+     */
+    private final int[] counts;
+
+    /**
+     * The number of distinct permutations.
+     */
+    private final BigInteger permutationCount;
+
+    /**
+     * Unmodifiable view of the ranks, provided by {@link #forEachRemainingInPlace(Consumer)}.
+     */
+    private final List<E> view;
+
+    /**
+     * Indicates if ranks hold the next permutation.
+     */
+    private boolean hasNextPermutation = true;
+
+    /**
+     * Standard constructor for this class.
+     *
+     * @param collection the collection to generate permutations for
+     * @throws NullPointerException if collection is null
+     */
+    public IndexPermutationIterator(final Collection<? extends E> collection) {
+        this(collection, null);
+    }
+
+    /**
+     * Constructor with custom comparator
+     *
+     * @param collection the collection to generate permutations for
+     * @param comparator the comparator used to define order of generation.
+     *                   If null, the natural ordering of the elements will be used.
+     * @throws NullPointerException if collection is null
+     * @throws ClassCastException if comparator is null and elements are not Comparable
+     */
+    public IndexPermutationIterator(final Collection<? extends E> collection, final Comparator<? super E> comparator) {
+        final RankedElements ranked = new RankedElements(collection, comparator);
+        this.comparator = comparator;
+        elements = ranked.elements;
+        ranks = ranked.ranks;
+        counts = ranked.counts;
+        permutationCount = MultisetPermutations.count(counts);
+        view = new RankView<>(elements, ranks, ranks.length);
+    }
+
+    /**
+     * Constructs an independent copy of the iterator, sharing its ranking of elements.
+     */
+    IndexPermutationIterator(final IndexPermutationIterator<E> other) {
+        comparator = other.comparator;
+        elements = other.elements;
+        ranks = other.ranks.clone();
+        counts = other.counts;
+        permutationCount = other.permutationCount;
+        view = new RankView<>(elements, ranks, ranks.length);
+        hasNextPermutation = other.hasNextPermutation;
+    }
+
+    /**
+     * Indicates if there are more permutation available.
+     *
+     * @return true if there are more permutations, otherwise false
+     */
+    @Override
+    public boolean hasNext() {
+        return hasNextPermutation;
+    }
+
+    /**
+     * Returns the next permutation of the input collection.
+     *
+     * @return an unmodifiable list of the permutator's elements representing a permutation
+     * @throws NoSuchElementException if there are no more permutations
+     */
+    @Override
+    public List<E> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final List<E> result = new RankView<>(elements, ranks.clone(), ranks.length);
+        hasNextPermutation = nextPermutation(ranks);
+        return result;
+    }
+
+    /**
+     * Performs the given action for each remaining permutation, in place.
+     * <p>
+     * The action is given the same unmodifiable view every time, which is permuted
+     * after the action returns, so no objects are allocated per permutation.
+     *
+     * @param action the action to be performed for each permutation
+     * @throws NullPointerException if action is null
+     */
+    public void forEachRemainingInPlace(final Consumer<? super List<E>> action) {
+        Objects.requireNonNull(action, "action");
+        while (hasNextPermutation) {
+            action.accept(view);
+            hasNextPermutation = nextPermutation(ranks);
+        }
+    }
+
+    /**
+     * Performs the given action for the next permutation, given as the in-place view, and advances.
+     * The caller should check if there is the next permutation.
+     */
+    void nextInPlace(final Consumer<? super List<E>> action) {
+        action.accept(view);
+        hasNextPermutation = nextPermutation(ranks);
+    }
+
+    /**
+     * Returns the number of distinct permutations of the input collection,
+     * i.e. the multinomial coefficient n! / (c<sub>1</sub>! * ... * c<sub>k</sub>!),
+     * where c<sub>i</sub> are the numbers of occurrences of distinct elements.
+     *
+     * @return the number of permutations
+     */
+    public BigInteger permutationCount() {
+        return permutationCount;
+    }
+
+    /**
+     * Returns the lexicographic rank of the next permutation, i.e. the number of permutations preceding it.
+     * The rank may be passed to {@link #seek(BigInteger)} to resume enumeration, e.g. from a checkpoint.
+     *
+     * @return the rank of the next permutation, or {@link #permutationCount()} if there are no more permutations
+     */
+    public BigInteger rank() {
+        return hasNextPermutation ? MultisetPermutations.rank(ranks, counts, permutationCount) : permutationCount;
+    }
+
+    /**
+     * Makes the permutation with given lexicographic rank the next one to return.
+     *
+     * @param rank the rank of the permutation, or {@link #permutationCount()} to finish the enumeration
+     * @throws NullPointerException if rank is null
+     * @throws IllegalArgumentException if rank is negative or greater than the number of permutations
+     */
+    public void seek(final BigInteger rank) {
+        Objects.requireNonNull(rank, "rank");
+        if (rank.signum() < 0 || rank.compareTo(permutationCount) > 0) {
+            throw new IllegalArgumentException("rank should be in range [0, permutationCount()]");
+        }
+
+        hasNextPermutation = rank.compareTo(permutationCount) < 0;
+        if (hasNextPermutation) {
+            MultisetPermutations.unrank(rank, counts, permutationCount, ranks);
+        }
+    }
+
+    /**
+     * Skips given number of permutations, or all remaining ones if there are less of them.
+     *
+     * @param n the number of permutations to skip
+     * @throws IllegalArgumentException if n is negative
+     */
+    public void skip(final long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n should not be negative");
+        }
+        if (n > 0 && hasNextPermutation) {
+            seek(rank().add(BigInteger.valueOf(n)).min(permutationCount));
+        }
+    }
+
+    /**
+     * Returns the exact number of remaining permutations.
+     *
+     * @return the number of remaining permutations, or {@code Long.MAX_VALUE} if it doesn't fit into a long
+     */
+    public long estimateSize() {
+        final BigInteger remaining = permutationCount.subtract(rank());
+        return remaining.bitLength() < Long.SIZE ? remaining.longValue() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Operation is not supported, and will throw an {@code UnsupportedOperationException}.
+     */
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove() is not supported");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        IndexPermutationIterator<?> that = (IndexPermutationIterator<?>) o;
+        return Objects.equals(comparator, that.comparator)
+                && Objects.equals(pendingPermutation(), that.pendingPermutation());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(comparator, pendingPermutation());
+    }
+
+    /**
+     * Returns the next permutation for equality checks, or null if there are no more permutations.
+     */
+    private List<E> pendingPermutation() {
+        return hasNextPermutation ? view : null;
+    }
+
+    /**
+     * Rearranges the array into the next permutation in the lexicographical order, in place,
+     * like {@code next_permutation} algorithm from C++ standard library.
+     * <p>
+     * If the array is the last permutation, i.e. it is sorted in descending order,
+     * it is rearranged into the first one, i.e. sorted in ascending order, and false is returned.
+     *
+     * @param array the array to permute
+     * @return true if the array is rearranged into the next permutation, false if it is rearranged into the first one
+     * @throws NullPointerException if array is null
+     */
+    public static boolean nextPermutation(final int[] array) {
+        int i = array.length - 2;
+        for (; i >= 0 && array[i] >= array[i + 1]; --i) {
+        }
+
+        if (i >= 0) {
+            int j = array.length - 1;
+            for (; array[i] >= array[j]; --j) {
+            }
+            swap(array, i, j);
+        }
+
+        for (int lo = i + 1, hi = array.length - 1; lo < hi; ++lo, --hi) {
+            swap(array, lo, hi);
+        }
+        return i >= 0;
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        final int value = array[i];
+        array[i] = array[j];
+        array[j] = value;
+    }
+
+}
@@ -0,0 +1,276 @@
+package io.github.hextriclosan.algorithm.iterators;
+
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * This iterator creates k-permutations of an input collection, i.e. ordered selections of k of its elements,
+ * using the lexicographical order, starting from the first k elements in sorted order.
+ * <p>
+ * Elements are ranked once, at construction, like in {@link IndexPermutationIterator}: equal elements get
+ * the same rank, so duplicated selections are sorted out as well. The ranks of all n elements are kept in
+ * a single buffer, the selection in its first k positions and the rest in ascending order. Reversing the rest
+ * makes the buffer the last permutation with the same selection, so the next selection is a single step of
+ * {@link IndexPermutationIterator#nextPermutation(int[])}, and only n! / (n - k)! steps are made instead of n!.
+ * <p>
+ * Selections may be ranked and unranked with {@link #rank()} and {@link #seek(BigInteger)}, e.g. to resume
+ * or shard the enumeration.
+ * The {@code remove()} operation is not supported, and will throw an
+ * {@code UnsupportedOperationException}.
+ * <p>
+ * NOTE: in case k is zero, the iterator will return exactly one empty list as result.
+ *
+ * @param <E> the type of the objects being selected
+ */
+public class KPermutationIterator<E> implements Iterator<List<E>> {
+
+    /**
+     * Distinct elements, indexed by their ranks.
+     */
+    private final Object[] elements;
+
+    /**
+     * Ranks of all elements: the next selection to return, followed by the rest in ascending order.
+     */
+    private final int[] buffer;
+
+    /**
+     * The number of occurrences of every rank.
+     */
+    private final int[] counts;
+
+    /**
+     * The length of selections.
+     */
+    private final int k;
+
+    /**
+     * The number of distinct selections.
+     */
+    private final BigInteger permutationCount;
+
+    /**
+     * Binomial coefficients C(m, x) for m up to k.
+     * Computed on first use of {@link #rank()} or {@link #seek(BigInteger)}.
+     */
+    private BigInteger[][] binomials;
+
+    /**
+     * Unmodifiable view of the selection, provided by {@link #forEachRemainingInPlace(Consumer)}.
+     */
+    private final List<E> view;
+
+    /**
+     * Indicates if the buffer holds the next selection.
+     */
+    private boolean hasNextPermutation = true;
+
+    /**
+     * Standard constructor for this class.
+     *
+     * @param collection the collection to select elements of
+     * @param k the number of elements to select
+     * @throws NullPointerException if collection is null
+     * @throws IllegalArgumentException if k is negative or greater than the size of the collection
+     * @throws ClassCastException if elements are not Comparable
+     */
+    public KPermutationIterator(final Collection<? extends E> collection, final int k) {
+        this(collection, k, null);
+    }
+
+    /**
+     * Constructor with custom comparator
+     *
+     * @param collection the collection to select elements of
+     * @param k the number of elements to select
+     * @param comparator the comparator used to define order of generation.
+     *                   If null, the natural ordering of the elements will be used.
+     * @throws NullPointerException if collection is null
+     * @throws IllegalArgumentException if k is negative or greater than the size of the collection
+     * @throws ClassCastException if comparator is null and elements are not Comparable
+     */
+    public KPermutationIterator(final Collection<? extends E> collection, final int k,
+                                final Comparator<? super E> comparator) {
+        final RankedElements ranked = new RankedElements(collection, comparator);
+        if (k < 0 || k > ranked.ranks.length) {
+            throw new IllegalArgumentException("k should be between 0 and the size of the collection");
+        }
+        elements = ranked.elements;
+        buffer = ranked.sortedRanks();
+        counts = ranked.counts;
+        this.k = k;
+        permutationCount = MultisetPermutations.arrangements(counts, k);
+        view = new RankView<>(elements, buffer, k);
+    }
+
+    /**
+     * Indicates if there are more selections available.
+     *
+     * @return true if there are more selections, otherwise false
+     */
+    @Override
+    public boolean hasNext() {
+        return hasNextPermutation;
+    }
+
+    /**
+     * Returns the next k-permutation of the input collection.
+     *
+     * @return an unmodifiable list of k elements of the collection
+     * @throws NoSuchElementException if there are no more selections
+     */
+    @Override
+    public List<E> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final List<E> result = new RankView<>(elements, buffer.clone(), k);
+        step();
+        return result;
+    }
+
+    /**
+     * Performs the given action for each remaining selection, in place.
+     * <p>
+     * The action is given the same unmodifiable view every time, which is changed
+     * after the action returns, so no objects are allocated per selection.
+     *
+     * @param action the action to be performed for each selection
+     * @throws NullPointerException if action is null
+     */
+    public void forEachRemainingInPlace(final Consumer<? super List<E>> action) {
+        Objects.requireNonNull(action, "action");
+        while (hasNextPermutation) {
+            action.accept(view);
+            step();
+        }
+    }
+
+    /**
+     * Returns the number of distinct k-permutations of the input collection,
+     * i.e. n! / (n - k)! if all elements are distinct.
+     *
+     * @return the number of selections
+     */
+    public BigInteger permutationCount() {
+        return permutationCount;
+    }
+
+    /**
+     * Returns the lexicographic rank of the next selection, i.e. the number of selections preceding it.
+     *
+     * @return the rank of the next selection, or {@link #permutationCount()} if there are no more selections
+     */
+    public BigInteger rank() {
+        if (!hasNextPermutation) {
+            return permutationCount;
+        }
+
+        final int[] remaining = counts.clone();
+        BigInteger rank = BigInteger.ZERO;
+        for (int i = 0; i < k; ++i) {
+            final BigInteger[] blocks = blocks(remaining, k - i - 1);
+            for (int r = 0; r < buffer[i]; ++r) {
+                rank = rank.add(blocks[r]);
+            }
+            --remaining[buffer[i]];
+        }
+        return rank;
+    }
+
+    /**
+     * Makes the selection with given lexicographic rank the next one to return.
+     *
+     * @param rank the rank of the selection, or {@link #permutationCount()} to finish the enumeration
+     * @throws NullPointerException if rank is null
+     * @throws IllegalArgumentException if rank is negative or greater than the number of selections
+     */
+    public void seek(final BigInteger rank) {
+        Objects.requireNonNull(rank, "rank");
+        if (rank.signum() < 0 || rank.compareTo(permutationCount) > 0) {
+            throw new IllegalArgumentException("rank should be in range [0, permutationCount()]");
+        }
+
+        hasNextPermutation = rank.compareTo(permutationCount) < 0;
+        if (!hasNextPermutation) {
+            return;
+        }
+
+        final int[] remaining = counts.clone();
+        BigInteger left = rank;
+        for (int i = 0; i < k; ++i) {
+            final BigInteger[] blocks = blocks(remaining, k - i - 1);
+            int r = 0;
+            for (; left.compareTo(blocks[r]) >= 0; ++r) {
+                left = left.subtract(blocks[r]);
+            }
+            buffer[i] = r;
+            --remaining[r];
+        }
+        for (int r = 0, i = k; r < remaining.length; ++r) {
+            for (int j = 0; j < remaining[r]; ++j) {
+                buffer[i++] = r;
+            }
+        }
+    }
+
+    /**
+     * Operation is not supported, and will throw an {@code UnsupportedOperationException}.
+     */
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove() is not supported");
+    }
+
+    private void step() {
+        for (int lo = k, hi = buffer.length - 1; lo < hi; ++lo, --hi) {
+            final int rank = buffer[lo];
+            buffer[lo] = buffer[hi];
+            buffer[hi] = rank;
+        }
+        hasNextPermutation = IndexPermutationIterator.nextPermutation(buffer);
+    }
+
+    /**
+     * Returns the number of selections continuing with every rank and then with m more elements,
+     * i.e. the sizes of the blocks of selections sharing a prefix, or zero for ranks not remaining.
+     * <p>
+     * A single table is built per prefix: {@code suffix[r][j]} counts sequences of j remaining elements
+     * of ranks r and greater. Sequences of ranks less than r are counted in a single row while walking the ranks,
+     * and the block of rank r interleaves them, with one occurrence of r taken, with the sequences of the table,
+     * so all blocks take O(d * m * m) arithmetic operations, d being the number of distinct elements.
+     */
+    private BigInteger[] blocks(int[] remaining, int m) {
+        if (binomials == null) {
+            binomials = MultisetPermutations.binomials(k);
+        }
+
+        final BigInteger[][] suffix = new BigInteger[remaining.length + 1][];
+        suffix[remaining.length] = MultisetPermutations.initialRow(m);
+        for (int r = remaining.length - 1; r >= 0; --r) {
+            suffix[r] = MultisetPermutations.nextRow(suffix[r + 1], remaining[r], binomials);
+        }
+
+        final BigInteger[] blocks = new BigInteger[remaining.length];
+        BigInteger[] prefix = MultisetPermutations.initialRow(m);
+        for (int r = 0; r < remaining.length; ++r) {
+            blocks[r] = BigInteger.ZERO;
+            if (remaining[r] > 0) {
+                final BigInteger[] row = MultisetPermutations.nextRow(prefix, remaining[r] - 1, binomials);
+                for (int j = 0; j <= m; ++j) {
+                    blocks[r] = blocks[r].add(binomials[m][j].multiply(row[j]).multiply(suffix[r + 1][m - j]));
+                }
+            }
+            prefix = MultisetPermutations.nextRow(prefix, remaining[r], binomials);
+        }
+        return blocks;
+    }
+
+}
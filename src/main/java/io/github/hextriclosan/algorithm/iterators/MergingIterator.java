@@ -0,0 +1,199 @@
+package io.github.hextriclosan.algorithm.iterators;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * This iterator lazily merges several sorted Iterators into a single sorted sequence.
+ * <p>
+ * Sources are arranged into a loser tree: every internal node keeps the loser of the match played there and
+ * the overall winner is kept at the root, so replacing the winner with the next element of its source replays
+ * only the matches on the path from its leaf to the root. That takes about log<sub>2</sub>(k) comparisons per
+ * element for k sources, about half of a binary heap, and no objects are allocated per element.
+ * <p>
+ * The merge is stable: equal elements are returned in the order of their sources. Optionally, elements equal
+ * to the previously returned one are skipped, so that every distinct element is returned once.
+ * Sources must be sorted in the order of the comparator, otherwise the result is undefined.
+ * The {@code remove()} operation is not supported, and will throw an {@code UnsupportedOperationException}.
+ *
+ * @param <E> the type of the objects being merged
+ */
+public class MergingIterator<E> implements Iterator<E> {
+
+    /**
+     * The comparator used to define order of sources,
+     * or null if it uses the natural ordering.
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Indicates if elements equal to the previously returned one are skipped.
+     */
+    private final boolean distinct;
+
+    private final Iterator<? extends E>[] sources;
+
+    /**
+     * Current elements of sources.
+     */
+    private final Object[] heads;
+
+    /**
+     * Indicates if a source has no current element.
+     */
+    private final boolean[] exhausted;
+
+    /**
+     * The winner at index 0 and the losers of matches at internal nodes 1..k-1.
+     */
+    private final int[] tree;
+
+    /**
+     * Standard constructor for this class.
+     *
+     * @param sources the sorted sources
+     * @throws NullPointerException if sources or any of them are null
+     */
+    public MergingIterator(final Collection<? extends Iterator<? extends E>> sources) {
+        this(sources, null);
+    }
+
+    /**
+     * Constructor with custom comparator
+     *
+     * @param sources the sorted sources
+     * @param comparator the comparator sources are sorted with.
+     *                   If null, the natural ordering of the elements will be used.
+     * @throws NullPointerException if sources or any of them are null
+     */
+    public MergingIterator(final Collection<? extends Iterator<? extends E>> sources,
+                           final Comparator<? super E> comparator) {
+        this(sources, comparator, false);
+    }
+
+    /**
+     * Constructor with custom comparator and deduplication
+     *
+     * @param sources the sorted sources
+     * @param comparator the comparator sources are sorted with.
+     *                   If null, the natural ordering of the elements will be used.
+     * @param distinct if true, elements equal to the previously returned one are skipped
+     * @throws NullPointerException if sources or any of them are null
+     */
+    public MergingIterator(final Collection<? extends Iterator<? extends E>> sources,
+                           final Comparator<? super E> comparator, final boolean distinct) {
+        Objects.requireNonNull(sources, "sources");
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final Iterator<? extends E>[] array = sources.toArray(new Iterator[0]);
+        this.sources = array;
+        for (Iterator<? extends E> source : this.sources) {
+            Objects.requireNonNull(source, "source");
+        }
+        this.comparator = comparator;
+        this.distinct = distinct;
+
+        final int size = this.sources.length;
+        heads = new Object[size];
+        exhausted = new boolean[size];
+        tree = new int[Math.max(1, size)];
+        // index size is a virtual source which beats every other one, so that the first pass fills the tree
+        Arrays.fill(tree, size);
+        for (int i = 0; i < size; ++i) {
+            advance(i);
+        }
+        for (int i = size - 1; i >= 0; --i) {
+            replay(i);
+        }
+    }
+
+    /**
+     * Indicates if there are more elements available.
+     *
+     * @return true if there are more elements, otherwise false
+     */
+    @Override
+    public boolean hasNext() {
+        return sources.length > 0 && !exhausted[tree[0]];
+    }
+
+    /**
+     * Returns the least of current elements of sources.
+     *
+     * @return the next element
+     * @throws NoSuchElementException if there are no more elements
+     */
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final E result = pop();
+        if (distinct) {
+            while (hasNext() && compareHead(tree[0], result) == 0) {
+                pop();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Operation is not supported, and will throw an {@code UnsupportedOperationException}.
+     */
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove() is not supported");
+    }
+
+    @SuppressWarnings("unchecked")
+    private E pop() {
+        final int winner = tree[0];
+        final E result = (E) heads[winner];
+        advance(winner);
+        replay(winner);
+        return result;
+    }
+
+    private void advance(int source) {
+        final Iterator<? extends E> iterator = sources[source];
+        exhausted[source] = !iterator.hasNext();
+        heads[source] = exhausted[source] ? null : iterator.next();
+    }
+
+    private void replay(int source) {
+        int winner = source;
+        for (int node = (source + sources.length) / 2; node > 0; node /= 2) {
+            if (beats(tree[node], winner)) {
+                final int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean beats(int a, int b) {
+        if (a == sources.length || b == sources.length) {
+            return a == sources.length;
+        }
+        if (exhausted[a] || exhausted[b]) {
+            return exhausted[a] == exhausted[b] ? a < b : exhausted[b];
+        }
+        final int compared = compareHead(a, (E) heads[b]);
+        return compared < 0 || compared == 0 && a < b;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compareHead(int source, E element) {
+        final E head = (E) heads[source];
+        return comparator == null
+                ? ((Comparable<? super E>) head).compareTo(element)
+                : comparator.compare(head, element);
+    }
+
+}
@@ -0,0 +1,218 @@
+package io.github.hextriclosan.algorithm.iterators;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * This iterator creates permutations of an input collection in minimal-change order,
+ * using the Steinhaus-Johnson-Trotter algorithm (plain changes): every permutation differs
+ * from the previous one by a swap of two adjacent elements.
+ * <p>
+ * Before a permutation is returned, the listener is notified about the pair of swapped positions,
+ * so that a function of the permutation can be updated incrementally instead of being evaluated from scratch.
+ * The algorithm is made loopless with Ehrlich's focus pointers, as the plain changes are the reflected
+ * mixed-radix Gray code of the offsets of elements: finding the next swap takes O(1) time in the worst case.
+ * <p>
+ * The first permutation is the input collection itself. All n! permutations are returned,
+ * including duplicated ones if the collection contains equal elements.
+ * The {@code remove()} operation is not supported, and will throw an
+ * {@code UnsupportedOperationException}.
+ * <p>
+ * NOTE: in case an empty collection is provided, the iterator will
+ * return exactly one empty list as result, as 0! = 1.
+ *
+ * @param <E> the type of the objects being permuted
+ */
+public class MinimalChangePermutationIterator<E> implements Iterator<List<E>> {
+
+    /**
+     * Listener of swaps of elements.
+     */
+    @FunctionalInterface
+    public interface SwapListener {
+
+        /**
+         * Invoked when two elements are swapped to make the next permutation.
+         *
+         * @param i the position of the first swapped element
+         * @param j the position of the second swapped element
+         */
+        void onSwap(int i, int j);
+    }
+
+    /**
+     * The listener notified about swaps.
+     */
+    private final SwapListener listener;
+
+    /**
+     * The current permutation, which is permuted in place.
+     */
+    private final List<E> buffer;
+
+    /**
+     * Unmodifiable view of the buffer, provided by {@link #forEachRemainingInPlace(Consumer)}.
+     */
+    private final List<E> view;
+
+    /**
+     * Indices in the input collection of the elements at every position of the buffer.
+     */
+    private final int[] order;
+
+    /**
+     * Positions in the buffer of the elements at every index of the input collection.
+     */
+    private final int[] positions;
+
+    /**
+     * Offsets of the moving elements, digit j being the offset of the element at index n - 1 - j
+     * of the input collection, which runs from 0 to n - 1 - j and back.
+     */
+    private final int[] offsets;
+
+    /**
+     * Directions of the digits: +1 if the element moves to the left, -1 if it moves to the right.
+     */
+    private final int[] directions;
+
+    /**
+     * Focus pointers: {@code focus[0]} is the digit to change next, equal to the number of digits when done.
+     */
+    private final int[] focus;
+
+    /**
+     * Indicates if the buffer holds the first permutation, which is returned without a swap.
+     */
+    private boolean first = true;
+
+    private boolean hasNextPermutation = true;
+
+    /**
+     * Standard constructor for this class.
+     *
+     * @param collection the collection to generate permutations for
+     * @throws NullPointerException if collection is null
+     */
+    public MinimalChangePermutationIterator(final Collection<? extends E> collection) {
+        this(collection, (i, j) -> {
+        });
+    }
+
+    /**
+     * Constructor with swap listener
+     *
+     * @param collection the collection to generate permutations for
+     * @param listener the listener notified about swaps
+     * @throws NullPointerException if collection or listener is null
+     */
+    public MinimalChangePermutationIterator(final Collection<? extends E> collection, final SwapListener listener) {
+        Objects.requireNonNull(collection, "collection");
+        this.listener = Objects.requireNonNull(listener, "listener");
+        buffer = new ArrayList<>(collection);
+        view = Collections.unmodifiableList(buffer);
+        final int n = buffer.size();
+        order = new int[n];
+        positions = new int[n];
+        for (int i = 0; i < n; ++i) {
+            order[i] = i;
+            positions[i] = i;
+        }
+        final int digits = Math.max(n - 1, 0);
+        offsets = new int[digits];
+        directions = new int[digits];
+        Arrays.fill(directions, 1);
+        focus = new int[digits + 1];
+        for (int j = 0; j <= digits; ++j) {
+            focus[j] = j;
+        }
+    }
+
+    /**
+     * Indicates if there are more permutation available.
+     *
+     * @return true if there are more permutations, otherwise false
+     */
+    @Override
+    public boolean hasNext() {
+        return hasNextPermutation;
+    }
+
+    /**
+     * Swaps two elements of the previous permutation, notifies the listener and returns the result.
+     *
+     * @return a list of the permutator's elements representing a permutation
+     * @throws NoSuchElementException if there are no more permutations
+     */
+    @Override
+    public List<E> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        advance();
+        return new ArrayList<>(buffer);
+    }
+
+    /**
+     * Performs the given action for each remaining permutation, in place.
+     * <p>
+     * The action is given the same unmodifiable view every time, which is permuted by a single swap
+     * after the action returns, so no objects are allocated per permutation.
+     *
+     * @param action the action to be performed for each permutation
+     * @throws NullPointerException if action is null
+     */
+    public void forEachRemainingInPlace(final Consumer<? super List<E>> action) {
+        Objects.requireNonNull(action, "action");
+        while (hasNextPermutation) {
+            advance();
+            action.accept(view);
+        }
+    }
+
+    /**
+     * Operation is not supported, and will throw an {@code UnsupportedOperationException}.
+     */
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove() is not supported");
+    }
+
+    private void advance() {
+        if (first) {
+            first = false;
+        } else {
+            final int j = focus[0];
+            focus[0] = 0;
+
+            final int element = order.length - 1 - j;
+            final int from = positions[element];
+            final int to = from - directions[j];
+            final int neighbour = order[to];
+            order[from] = neighbour;
+            order[to] = element;
+            positions[neighbour] = from;
+            positions[element] = to;
+            Collections.swap(buffer, from, to);
+            listener.onSwap(Math.min(from, to), Math.max(from, to));
+
+            offsets[j] += directions[j];
+            if (offsets[j] == 0 || offsets[j] == order.length - 1 - j) {
+                directions[j] = -directions[j];
+                focus[j] = focus[j + 1];
+                focus[j + 1] = j + 1;
+            }
+        }
+
+        hasNextPermutation = focus[0] < offsets.length;
+    }
+
+}
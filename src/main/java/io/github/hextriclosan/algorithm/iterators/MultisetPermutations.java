@@ -0,0 +1,183 @@
+package io.github.hextriclosan.algorithm.iterators;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Ranking and unranking of lexicographic permutations of a multiset in the multinomial number system.
+ * <p>
+ * A permutation is an array of ranks of elements in [0, k), and the multiset is given by counts of every rank.
+ * If T is the number of permutations of m remaining elements, then T * c[r] / m of them start with rank r,
+ * which is how both ranking and unranking walk the permutation, in O(n * k) arithmetic operations.
+ * Longs are used while all intermediate products fit, BigIntegers otherwise.
+ */
+final class MultisetPermutations {
+
+    private MultisetPermutations() {
+    }
+
+    /**
+     * Counts occurrences of every rank.
+     */
+    static int[] counts(int[] permutation, int distinct) {
+        final int[] counts = new int[distinct];
+        for (int rank : permutation) {
+            ++counts[rank];
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of distinct permutations of the multiset, i.e. the multinomial coefficient
+     * n! / (c<sub>0</sub>! * c<sub>1</sub>! * ... * c<sub>k-1</sub>!).
+     */
+    static BigInteger count(int[] counts) {
+        BigInteger result = BigInteger.ONE;
+        long length = 0;
+        for (int count : counts) {
+            for (int j = 1; j <= count; ++j) {
+                ++length;
+                result = result.multiply(BigInteger.valueOf(length)).divide(BigInteger.valueOf(j));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the lexicographic rank of the permutation.
+     *
+     * @param permutation the permutation
+     * @param counts the counts of ranks in the permutation, which are not modified
+     * @param total the number of permutations, see {@link #count(int[])}
+     */
+    static BigInteger rank(int[] permutation, int[] counts, BigInteger total) {
+        final int[] remaining = counts.clone();
+        if (fitsLong(total, permutation.length)) {
+            long permutations = total.longValue();
+            long rank = 0;
+            for (int i = 0; i < permutation.length; ++i) {
+                final int length = permutation.length - i;
+                for (int r = 0; r < permutation[i]; ++r) {
+                    rank += permutations * remaining[r] / length;
+                }
+                permutations = permutations * remaining[permutation[i]]-- / length;
+            }
+            return BigInteger.valueOf(rank);
+        }
+
+        BigInteger permutations = total;
+        BigInteger rank = BigInteger.ZERO;
+        for (int i = 0; i < permutation.length; ++i) {
+            final BigInteger length = BigInteger.valueOf(permutation.length - i);
+            for (int r = 0; r < permutation[i]; ++r) {
+                rank = rank.add(permutations.multiply(BigInteger.valueOf(remaining[r])).divide(length));
+            }
+            permutations = permutations.multiply(BigInteger.valueOf(remaining[permutation[i]]--)).divide(length);
+        }
+        return rank;
+    }
+
+    /**
+     * Writes the permutation with given lexicographic rank.
+     *
+     * @param rank the rank, in [0, total)
+     * @param counts the counts of ranks in the permutation, which are not modified
+     * @param total the number of permutations, see {@link #count(int[])}
+     * @param permutation the array to write the permutation to
+     */
+    static void unrank(BigInteger rank, int[] counts, BigInteger total, int[] permutation) {
+        final int[] remaining = counts.clone();
+        if (fitsLong(total, permutation.length)) {
+            long permutations = total.longValue();
+            long left = rank.longValue();
+            for (int i = 0; i < permutation.length; ++i) {
+                final int length = permutation.length - i;
+                int r = 0;
+                for (long block; left >= (block = permutations * remaining[r] / length); ++r) {
+                    left -= block;
+                }
+                permutation[i] = r;
+                permutations = permutations * remaining[r]-- / length;
+            }
+            return;
+        }
+
+        BigInteger permutations = total;
+        BigInteger left = rank;
+        for (int i = 0; i < permutation.length; ++i) {
+            final BigInteger length = BigInteger.valueOf(permutation.length - i);
+            int r = 0;
+            for (BigInteger block; left.compareTo(block = permutations.multiply(BigInteger.valueOf(remaining[r]))
+                    .divide(length)) >= 0; ++r) {
+                left = left.subtract(block);
+            }
+            permutation[i] = r;
+            permutations = permutations.multiply(BigInteger.valueOf(remaining[r]--)).divide(length);
+        }
+    }
+
+    /**
+     * Returns the number of distinct sequences of m elements of the multiset, i.e. the sum of multinomial
+     * coefficients m! / (x<sub>0</sub>! * ... * x<sub>k-1</sub>!) over all x<sub>r</sub> &lt;= c<sub>r</sub>
+     * summing to m, in O(k * m * m) arithmetic operations.
+     */
+    static BigInteger arrangements(int[] counts, int m) {
+        final BigInteger[][] binomials = binomials(m);
+        // ways[j] is the number of sequences of j elements of ranks processed so far
+        BigInteger[] ways = initialRow(m);
+        for (int count : counts) {
+            ways = nextRow(ways, count, binomials);
+        }
+        return ways[m];
+    }
+
+    /**
+     * Returns the binomial coefficients C(i, j) for all i up to m.
+     */
+    static BigInteger[][] binomials(int m) {
+        final BigInteger[][] binomials = new BigInteger[m + 1][];
+        for (int i = 0; i <= m; ++i) {
+            binomials[i] = new BigInteger[i + 1];
+            binomials[i][0] = binomials[i][i] = BigInteger.ONE;
+            for (int j = 1; j < i; ++j) {
+                binomials[i][j] = binomials[i - 1][j - 1].add(binomials[i - 1][j]);
+            }
+        }
+        return binomials;
+    }
+
+    /**
+     * Returns the numbers of sequences of up to m elements of no ranks at all: there is only the empty sequence.
+     */
+    static BigInteger[] initialRow(int m) {
+        final BigInteger[] row = new BigInteger[m + 1];
+        Arrays.fill(row, BigInteger.ZERO);
+        row[0] = BigInteger.ONE;
+        return row;
+    }
+
+    /**
+     * Returns the numbers of sequences for one more rank, taken at most count times, placing its occurrences
+     * among the elements of the sequences of the row.
+     *
+     * @param binomials the binomial coefficients, see {@link #binomials(int)}
+     */
+    static BigInteger[] nextRow(BigInteger[] row, int count, BigInteger[][] binomials) {
+        final BigInteger[] next = new BigInteger[row.length];
+        for (int j = 0; j < row.length; ++j) {
+            next[j] = BigInteger.ZERO;
+            for (int x = 0; x <= Math.min(count, j); ++x) {
+                next[j] = next[j].add(binomials[j][x].multiply(row[j - x]));
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Indicates if products of the number of permutations and a count of at most n fit into a long.
+     */
+    private static boolean fitsLong(BigInteger total, int n) {
+        return total.bitLength() + Integer.SIZE - Integer.numberOfLeadingZeros(n) < Long.SIZE - 1;
+    }
+
+}
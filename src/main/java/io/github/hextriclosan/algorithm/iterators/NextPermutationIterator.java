@@ -6,8 +6,11 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
 
 /**
  * This iterator creates permutations of an input collection, using the
@@ -15,6 +18,8 @@ import java.util.Objects;
  * <p>
  * The iterator might return less than n! permutations of the input collection,
  * because duplicated combinations are sorted out.
+ * Every permutation returned by {@link #next()} is a new list, while
+ * {@link #forEachRemainingInPlace(Consumer)} visits permutations without allocating them.
  * The {@code remove()} operation is not supported, and will throw an
  * {@code UnsupportedOperationException}.
  * <p>
@@ -33,9 +38,35 @@ public class NextPermutationIterator<E> implements Iterator<List<E>> {
 
     /**
      * Next permutation to return. When a permutation is requested
-     * this instance is provided and the next one is computed.
+     * a copy of this buffer is provided and the buffer is permuted in place.
      */
-    private List<E> nextPermutation;
+    private final List<E> buffer;
+
+    /**
+     * Unmodifiable view of the buffer, provided by {@link #forEachRemainingInPlace(Consumer)}.
+     */
+    private final List<E> view;
+
+    /**
+     * Indicates if the buffer holds the next permutation.
+     */
+    private boolean hasNextPermutation = true;
+
+    /**
+     * The length of the prefix the buffer shares with the last returned permutation,
+     * valid while the buffer holds the next permutation.
+     */
+    private int shared;
+
+    /**
+     * Indicates if any permutation is returned or visited.
+     */
+    private boolean returned;
+
+    /**
+     * Indicates if the buffer holds the permutation visited by {@link #forEachRemainingInPlace(Consumer)}.
+     */
+    private boolean visiting;
 
     /**
      * Standard constructor for this class.
@@ -57,7 +88,8 @@ public class NextPermutationIterator<E> implements Iterator<List<E>> {
      */
     public NextPermutationIterator(final Collection<? extends E> collection, final Comparator<? super E> comparator) {
         Objects.requireNonNull(collection, "collection");
-        nextPermutation = new ArrayList<>(collection);
+        buffer = new ArrayList<>(collection);
+        view = Collections.unmodifiableList(buffer);
         this.comparator = comparator;
     }
 
@@ -68,7 +100,7 @@ public class NextPermutationIterator<E> implements Iterator<List<E>> {
      */
     @Override
     public boolean hasNext() {
-        return nextPermutation != null;
+        return hasNextPermutation;
     }
 
     /**
@@ -83,27 +115,97 @@ public class NextPermutationIterator<E> implements Iterator<List<E>> {
             throw new NoSuchElementException();
         }
 
-        final int size = nextPermutation.size();
-        List<E> nextP = null;
+        final List<E> result = new ArrayList<>(buffer);
+        returned = true;
+        step();
+        return result;
+    }
 
-        int i = size - 2;
-        for (; i >= 0 && compareElements(nextPermutation.get(i), nextPermutation.get(i + 1)) >= 0; --i) {
+    /**
+     * Performs the given action for each remaining permutation, in place.
+     * <p>
+     * Unlike {@link #next()}, permutations are not copied: the action is given the same unmodifiable view
+     * of a single buffer every time, which is permuted in place after the action returns. Thus no objects are
+     * allocated per permutation, and the view must be copied if a permutation is needed after the action returns.
+     *
+     * @param action the action to be performed for each permutation
+     * @throws NullPointerException if action is null
+     */
+    public void forEachRemainingInPlace(final Consumer<? super List<E>> action) {
+        Objects.requireNonNull(action, "action");
+        while (hasNextPermutation) {
+            shared = buffer.size();
+            returned = true;
+            visiting = true;
+            try {
+                action.accept(view);
+            } finally {
+                visiting = false;
+            }
+            step();
         }
+    }
 
-        if (i >= 0) {
-            int j = size - 1;
-            for (; j >= i && compareElements(nextPermutation.get(i), nextPermutation.get(j)) >= 0; --j) {
-            }
+    /**
+     * Skips the remaining permutations which start with the same {@code k} elements as the last returned one,
+     * e.g. when a branch-and-bound search finds the prefix infeasible. It may be called from the action of
+     * {@link #forEachRemainingInPlace(Consumer)} as well, to skip permutations sharing the prefix of the visited one.
+     * <p>
+     * Permutations sharing a prefix are consecutive in the lexicographical order and the last of them has
+     * the suffix sorted in descending order. Thus the whole subtree of (n - k)! permutations is skipped
+     * by sorting the suffix and making a single step, in O(n log n) time.
+     *
+     * @param k the length of the prefix, between 0 and the size of the collection
+     * @throws IllegalArgumentException if k is out of range
+     * @throws IllegalStateException if no permutation is returned yet
+     */
+    public void skipPrefix(final int k) {
+        if (k < 0 || k > buffer.size()) {
+            throw new IllegalArgumentException("k should be between 0 and the size of the collection");
+        }
+        if (!returned) {
+            throw new IllegalStateException("no permutation is returned yet");
+        }
+        if (!hasNextPermutation || shared < k) {
+            return;
+        }
 
-            nextP = new ArrayList<>(nextPermutation);
-            Collections.swap(nextP, i, j);
-            final List<E> subList = nextP.subList(i + 1, nextP.size());
-            Collections.reverse(subList);
+        buffer.subList(k, buffer.size()).sort((e1, e2) -> compareElements(comparator, e2, e1));
+        if (!visiting) {
+            step();
         }
+    }
 
-        final List<E> result = nextPermutation;
-        nextPermutation = nextP;
-        return result;
+    /**
+     * Rearranges the list into the next permutation in the lexicographical order, in place,
+     * like {@code next_permutation} algorithm from C++ standard library.
+     * <p>
+     * If the list is the last permutation, i.e. it is sorted in descending order,
+     * it is rearranged into the first one, i.e. sorted in ascending order, and false is returned.
+     * Lists which are not {@link RandomAccess} are permuted in a copy, which is written back.
+     *
+     * @param list the list to permute
+     * @param comparator the comparator used to define order of permutations.
+     *                   If null, the natural ordering of the elements will be used.
+     * @param <E> the type of the objects being permuted
+     * @return true if the list is rearranged into the next permutation, false if it is rearranged into the first one
+     * @throws NullPointerException if list is null
+     * @throws UnsupportedOperationException if the list doesn't support {@code set} operation
+     */
+    public static <E> boolean nextPermutation(final List<E> list, final Comparator<? super E> comparator) {
+        Objects.requireNonNull(list, "list");
+        if (list instanceof RandomAccess) {
+            return permute(list, comparator) >= 0;
+        }
+
+        final List<E> copy = new ArrayList<>(list);
+        final boolean permuted = permute(copy, comparator) >= 0;
+        final ListIterator<E> iterator = list.listIterator();
+        for (E element : copy) {
+            iterator.next();
+            iterator.set(element);
+        }
+        return permuted;
     }
 
     /**
@@ -125,16 +227,54 @@ public class NextPermutationIterator<E> implements Iterator<List<E>> {
         }
 
         NextPermutationIterator<?> that = (NextPermutationIterator<?>) o;
-        return Objects.equals(comparator, that.comparator) && Objects.equals(nextPermutation, that.nextPermutation);
+        return Objects.equals(comparator, that.comparator)
+                && Objects.equals(pendingPermutation(), that.pendingPermutation());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(comparator, nextPermutation);
+        return Objects.hash(comparator, pendingPermutation());
+    }
+
+    /**
+     * Returns the next permutation for equality checks, or null if there are no more permutations.
+     */
+    private List<E> pendingPermutation() {
+        return hasNextPermutation ? buffer : null;
+    }
+
+    private void step() {
+        shared = permute(buffer, comparator);
+        hasNextPermutation = shared >= 0;
+    }
+
+    /**
+     * Rearranges the list into the next permutation.
+     *
+     * @return the leftmost changed position, or -1 if the list is rearranged into the first permutation
+     */
+    private static <E> int permute(final List<E> list, final Comparator<? super E> comparator) {
+        final int size = list.size();
+
+        int i = size - 2;
+        for (; i >= 0 && compareElements(comparator, list.get(i), list.get(i + 1)) >= 0; --i) {
+        }
+
+        if (i >= 0) {
+            int j = size - 1;
+            for (; compareElements(comparator, list.get(i), list.get(j)) >= 0; --j) {
+            }
+            Collections.swap(list, i, j);
+        }
+
+        for (int lo = i + 1, hi = size - 1; lo < hi; ++lo, --hi) {
+            list.set(lo, list.set(hi, list.get(lo)));
+        }
+        return i;
     }
 
     @SuppressWarnings("unchecked")
-    private int compareElements(E e1, E e2) {
+    private static <E> int compareElements(Comparator<? super E> comparator, E e1, E e2) {
         return comparator == null
                 ? ((Comparable<? super E>) e1).compareTo(e2)
                 : comparator.compare(e1, e2);
@@ -0,0 +1,228 @@
+package io.github.hextriclosan.algorithm.iterators;
+
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Spliterator over all permutations of an input collection, in the lexicographical order,
+ * which splits the range of lexicographic ranks of permutations into halves.
+ * <p>
+ * Every part seeks to the first permutation of its range once, see {@link IndexPermutationIterator#seek(BigInteger)},
+ * and then generates permutations of ranks in place, so parallel streams enumerate disjoint blocks of permutations
+ * on all cores. Permutations are the same as returned by {@link IndexPermutationIterator}: duplicated permutations
+ * are sorted out and every permutation is an unmodifiable list.
+ * <p>
+ * By default every permutation is a new list, which costs a copy of the array of ranks per permutation, as
+ * a stream may keep its elements. In the in-place mode, see {@link #streamInPlace(Collection, Comparator, boolean)},
+ * every part passes the same view of its array of ranks, which is permuted after the action returns, so that
+ * no objects are allocated per permutation. The in-place mode suits pipelines which reduce every permutation
+ * to a value right away, like {@code mapToDouble(...).min()}.
+ *
+ * @param <E> the type of the objects being permuted
+ */
+public class PermutationSpliterator<E> implements Spliterator<List<E>> {
+
+    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+
+    /**
+     * The iterator positioned at the next permutation of the range.
+     */
+    private final IndexPermutationIterator<E> iterator;
+
+    /**
+     * Indicates if permutations are passed as the in-place view instead of new lists.
+     */
+    private final boolean inPlace;
+
+    /**
+     * The rank of the first permutation of the range.
+     */
+    private BigInteger from;
+
+    /**
+     * The rank of the permutation after the last one of the range.
+     */
+    private final BigInteger to;
+
+    /**
+     * The number of permutations of the range, or {@code Long.MAX_VALUE} if it doesn't fit into a long.
+     */
+    private long size;
+
+    /**
+     * The number of permutations already traversed.
+     */
+    private long traversed;
+
+    /**
+     * Standard constructor for this class.
+     *
+     * @param collection the collection to generate permutations for
+     * @throws NullPointerException if collection is null
+     */
+    public PermutationSpliterator(final Collection<? extends E> collection) {
+        this(collection, null);
+    }
+
+    /**
+     * Constructor with custom comparator
+     *
+     * @param collection the collection to generate permutations for
+     * @param comparator the comparator used to define order of generation.
+     *                   If null, the natural ordering of the elements will be used.
+     * @throws NullPointerException if collection is null
+     * @throws ClassCastException if comparator is null and elements are not Comparable
+     */
+    public PermutationSpliterator(final Collection<? extends E> collection, final Comparator<? super E> comparator) {
+        this(collection, comparator, false);
+    }
+
+    /**
+     * Constructor with custom comparator and in-place mode
+     *
+     * @param collection the collection to generate permutations for
+     * @param comparator the comparator used to define order of generation.
+     *                   If null, the natural ordering of the elements will be used.
+     * @param inPlace if true, every permutation is passed as the same unmodifiable view,
+     *                which is valid only until the action returns
+     * @throws NullPointerException if collection is null
+     * @throws ClassCastException if comparator is null and elements are not Comparable
+     */
+    public PermutationSpliterator(final Collection<? extends E> collection, final Comparator<? super E> comparator,
+                                  final boolean inPlace) {
+        this(new IndexPermutationIterator<>(collection, comparator), inPlace);
+    }
+
+    private PermutationSpliterator(final IndexPermutationIterator<E> iterator, final boolean inPlace) {
+        this(iterator, inPlace, BigInteger.ZERO, iterator.permutationCount());
+        iterator.seek(BigInteger.ZERO);
+    }
+
+    private PermutationSpliterator(final IndexPermutationIterator<E> iterator, final boolean inPlace,
+                                   final BigInteger from, final BigInteger to) {
+        this.iterator = iterator;
+        this.inPlace = inPlace;
+        this.from = from;
+        this.to = to;
+        this.size = sizeOf(from, to);
+    }
+
+    /**
+     * Creates a stream over all permutations of the collection, in the lexicographical order.
+     *
+     * @param collection the collection to generate permutations for
+     * @param comparator the comparator used to define order of generation.
+     *                   If null, the natural ordering of the elements will be used.
+     * @param parallel if true, the stream is parallel
+     * @param <E> the type of the objects being permuted
+     * @return the stream of permutations
+     * @throws NullPointerException if collection is null
+     * @throws ClassCastException if comparator is null and elements are not Comparable
+     */
+    public static <E> Stream<List<E>> stream(final Collection<? extends E> collection,
+                                             final Comparator<? super E> comparator, final boolean parallel) {
+        return StreamSupport.stream(new PermutationSpliterator<>(collection, comparator), parallel);
+    }
+
+    /**
+     * Creates a stream over all permutations of the collection, in the lexicographical order, which passes
+     * every permutation as the same unmodifiable view of a part of the stream. A permutation is valid only
+     * until the next stage of the pipeline returns, and must be copied if it is kept.
+     *
+     * @param collection the collection to generate permutations for
+     * @param comparator the comparator used to define order of generation.
+     *                   If null, the natural ordering of the elements will be used.
+     * @param parallel if true, the stream is parallel
+     * @param <E> the type of the objects being permuted
+     * @return the stream of permutations
+     * @throws NullPointerException if collection is null
+     * @throws ClassCastException if comparator is null and elements are not Comparable
+     */
+    public static <E> Stream<List<E>> streamInPlace(final Collection<? extends E> collection,
+                                                    final Comparator<? super E> comparator, final boolean parallel) {
+        return StreamSupport.stream(new PermutationSpliterator<>(collection, comparator, true), parallel);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super List<E>> action) {
+        Objects.requireNonNull(action, "action");
+        if (traversed >= size) {
+            return false;
+        }
+
+        ++traversed;
+        advance(action);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super List<E>> action) {
+        Objects.requireNonNull(action, "action");
+        for (; traversed < size; ++traversed) {
+            advance(action);
+        }
+    }
+
+    /**
+     * Splits off the first half of the remaining range of ranks.
+     *
+     * @return the spliterator over the first half, or null if there are less than two permutations left
+     */
+    @Override
+    public Spliterator<List<E>> trySplit() {
+        final BigInteger current = from.add(BigInteger.valueOf(traversed));
+        final BigInteger remaining = to.subtract(current);
+        if (remaining.compareTo(BigInteger.TWO) < 0) {
+            return null;
+        }
+
+        final BigInteger middle = current.add(remaining.shiftRight(1));
+        final PermutationSpliterator<E> prefix =
+                new PermutationSpliterator<>(new IndexPermutationIterator<>(iterator), inPlace, current, middle);
+        from = middle;
+        size = sizeOf(middle, to);
+        traversed = 0;
+        iterator.seek(middle);
+        return prefix;
+    }
+
+    /**
+     * Returns the exact number of remaining permutations.
+     *
+     * @return the number of remaining permutations, or {@code Long.MAX_VALUE} if it doesn't fit into a long
+     */
+    @Override
+    public long estimateSize() {
+        return size == Long.MAX_VALUE ? Long.MAX_VALUE : size - traversed;
+    }
+
+    /**
+     * Reports {@code DISTINCT} and {@code IMMUTABLE} only if permutations are new lists,
+     * as the in-place view is the same object which changes between permutations.
+     */
+    @Override
+    public int characteristics() {
+        final int characteristics = inPlace ? ORDERED | NONNULL : ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+        return size == Long.MAX_VALUE ? characteristics : characteristics | SIZED | SUBSIZED;
+    }
+
+    private void advance(Consumer<? super List<E>> action) {
+        if (inPlace) {
+            iterator.nextInPlace(action);
+        } else {
+            action.accept(iterator.next());
+        }
+    }
+
+    private static long sizeOf(BigInteger from, BigInteger to) {
+        return to.subtract(from).min(MAX_LONG).longValue();
+    }
+
+}
@@ -0,0 +1,33 @@
+package io.github.hextriclosan.algorithm.iterators;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable list of elements with given ranks, which maps ranks to elements on access.
+ *
+ * @param <E> the type of elements
+ */
+final class RankView<E> extends AbstractList<E> implements RandomAccess {
+    private final Object[] elements;
+    private final int[] ranks;
+    private final int size;
+
+    RankView(Object[] elements, int[] ranks, int size) {
+        this.elements = elements;
+        this.ranks = ranks;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        return (E) elements[ranks[Objects.checkIndex(index, size)]];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
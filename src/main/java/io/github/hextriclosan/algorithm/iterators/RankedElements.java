@@ -0,0 +1,73 @@
+package io.github.hextriclosan.algorithm.iterators;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Elements of a collection ranked once, so that generators of permutations and selections
+ * work on int arrays of ranks and never call the comparator again.
+ * <p>
+ * Equal elements get the same rank and are represented by the first of them in the collection.
+ */
+final class RankedElements {
+
+    /**
+     * Distinct elements, indexed by their ranks.
+     */
+    final Object[] elements;
+
+    /**
+     * Ranks of elements of the collection, in its order.
+     */
+    final int[] ranks;
+
+    /**
+     * The number of occurrences of every rank.
+     */
+    final int[] counts;
+
+    <E> RankedElements(final Collection<? extends E> collection, final Comparator<? super E> comparator) {
+        Objects.requireNonNull(collection, "collection");
+        final Object[] input = collection.toArray();
+
+        final Integer[] order = new Integer[input.length];
+        Arrays.setAll(order, i -> i);
+        // the sort is stable, so the first of equal elements becomes their representative
+        Arrays.sort(order, (i, j) -> compareElements(comparator, input[i], input[j]));
+
+        ranks = new int[input.length];
+        final Object[] distinct = new Object[input.length];
+        int rank = -1;
+        for (int i = 0; i < order.length; ++i) {
+            if (i == 0 || compareElements(comparator, input[order[i - 1]], input[order[i]]) != 0) {
+                distinct[++rank] = input[order[i]];
+            }
+            ranks[order[i]] = rank;
+        }
+        elements = Arrays.copyOf(distinct, rank + 1);
+        counts = MultisetPermutations.counts(ranks, elements.length);
+    }
+
+    /**
+     * Returns ranks of all elements in ascending order.
+     */
+    int[] sortedRanks() {
+        final int[] sorted = new int[ranks.length];
+        for (int rank = 0, i = 0; rank < counts.length; ++rank) {
+            for (int j = 0; j < counts[rank]; ++j) {
+                sorted[i++] = rank;
+            }
+        }
+        return sorted;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compareElements(Comparator<?> comparator, Object e1, Object e2) {
+        return comparator == null
+                ? ((Comparable<Object>) e1).compareTo(e2)
+                : ((Comparator<Object>) comparator).compare(e1, e2);
+    }
+
+}
@@ -1,19 +1,25 @@
 package io.github.hextriclosan.algorithm.iterators;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Random;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * This iterator creates random samples of a given size from the input {@code List}.
  * The algorithm preserves original order of elements.
+ * <p>
+ * Indices are shuffled lazily, with an incremental Fisher-Yates shuffle: every sample draws only as many
+ * positions as it takes, so creating the first sample takes O(sampleSize) time and memory, whatever the size
+ * of the list is. Displaced indices are kept in a hash map while few of them are drawn, and in an int array
+ * once the map would take more memory than the array. As random numbers are drawn on demand, the source of
+ * randomness should not be shared with other consumers if samples are expected to be reproducible.
  * The {@code remove()} operation is not supported, and will throw an {@code UnsupportedOperationException}.
  *
  * @param <E> the type of the objects being sampled
@@ -21,10 +27,24 @@ import java.util.stream.IntStream;
 public class SamplingIterator<E> implements Iterator<List<E>> {
     private final List<? extends E> toSample;
     private final int sampleSize;
-    private final List<Integer> index;
+    private final Random random;
+
+    /**
+     * Indices displaced by the shuffle, sparse mode: a position missing from the map holds its own index.
+     */
+    private Map<Integer, Integer> displaced = new HashMap<>();
+
+    /**
+     * Indices displaced by the shuffle, dense mode, or null while the sparse mode is used.
+     */
+    private int[] index;
 
     private List<E> nextSample;
-    private int start;
+
+    /**
+     * The number of positions which are not drawn yet.
+     */
+    private int remaining;
 
     /**
      * Standard constructor for this class.
@@ -40,15 +60,9 @@ public class SamplingIterator<E> implements Iterator<List<E>> {
         validate(toSample, sampleSize, random);
         this.toSample = toSample;
         this.sampleSize = sampleSize;
-        index = IntStream.range(0, toSample.size())
-                .boxed()
-                .collect(Collectors.collectingAndThen(Collectors.toCollection(ArrayList::new),
-                        collected -> {
-                            Collections.shuffle(collected, random);
-                            return collected;
-                        }));
-
-        start = 0;
+        this.random = random;
+
+        remaining = toSample.size();
         nextSample();
     }
 
@@ -121,18 +135,49 @@ public class SamplingIterator<E> implements Iterator<List<E>> {
     }
 
     private void nextSample() {
-        if (start >= toSample.size()) {
+        if (remaining == 0) {
             nextSample = null;
             return;
         }
 
-        final int len = Math.min(sampleSize, toSample.size() - start);
-        nextSample = index.subList(start, start + len).stream()
-                .sorted()
-                .map(toSample::get)
-                .collect(Collectors.toCollection(ArrayList::new));
+        final int[] drawn = new int[Math.min(sampleSize, remaining)];
+        for (int i = 0; i < drawn.length; ++i) {
+            drawn[i] = draw();
+        }
+        Arrays.sort(drawn);
 
-        start += len;
+        nextSample = new ArrayList<>(drawn.length);
+        for (int position : drawn) {
+            nextSample.add(toSample.get(position));
+        }
+    }
+
+    /**
+     * Makes a step of the Fisher-Yates shuffle: swaps the last remaining position with a random one
+     * and returns the index it receives.
+     */
+    private int draw() {
+        final int last = --remaining;
+        final int j = last > 0 ? random.nextInt(last + 1) : 0;
+        if (index != null) {
+            final int result = index[j];
+            index[j] = index[last];
+            return result;
+        }
+
+        final int result = displaced.getOrDefault(j, j);
+        final Integer lastIndex = displaced.remove(last);
+        if (j != last) {
+            displaced.put(j, lastIndex != null ? lastIndex : last);
+        }
+        // an entry of the map takes more memory than 16 elements of the array
+        if (displaced.size() > remaining >>> 4) {
+            index = new int[remaining];
+            Arrays.setAll(index, position -> position);
+            displaced.forEach((position, value) -> index[position] = value);
+            displaced = null;
+        }
+        return result;
     }
 
     private void validate(Collection<? extends E> collection, int sampleSize, Random random) {
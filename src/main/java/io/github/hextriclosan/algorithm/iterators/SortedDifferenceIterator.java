@@ -0,0 +1,156 @@
+package io.github.hextriclosan.algorithm.iterators;
+
+import java.util.AbstractMap;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * This iterator lazily computes the difference of two multisets given as sorted Iterators.
+ * <p>
+ * For every element whose number of occurrences differs, the iterator returns an entry with the element and
+ * the signed difference of counts: a positive count means that the first source has surplus occurrences of
+ * the element, a negative count means that it lacks them compared to the second one. Entries are returned
+ * in sorted order. No entries are returned if one source is permutation of another.
+ * <p>
+ * Both sources are consumed exactly once and only the current elements are kept, so the difference of
+ * unbounded or external datasets is reconciled in a single pass and constant memory.
+ * Sources must be sorted in the order of the comparator, otherwise the result is undefined.
+ * The {@code remove()} operation is not supported, and will throw an {@code UnsupportedOperationException}.
+ *
+ * @param <E> the type of the objects being compared
+ */
+public class SortedDifferenceIterator<E> implements Iterator<Map.Entry<E, Integer>> {
+
+    /**
+     * The comparator used to define order of sources,
+     * or null if it uses the natural ordering.
+     */
+    private final Comparator<? super E> comparator;
+
+    private final Iterator<? extends E> first;
+    private final Iterator<? extends E> second;
+
+    private E firstHead;
+    private boolean hasFirstHead;
+    private E secondHead;
+    private boolean hasSecondHead;
+
+    /**
+     * Next difference to return, or null if there are no more differences.
+     */
+    private Map.Entry<E, Integer> nextDifference;
+
+    /**
+     * Standard constructor for this class.
+     *
+     * @param first the first sorted source
+     * @param second the second sorted source
+     * @throws NullPointerException if either of sources is null
+     */
+    public SortedDifferenceIterator(final Iterator<? extends E> first, final Iterator<? extends E> second) {
+        this(first, second, null);
+    }
+
+    /**
+     * Constructor with custom comparator
+     *
+     * @param first the first sorted source
+     * @param second the second sorted source
+     * @param comparator the comparator sources are sorted with.
+     *                   If null, the natural ordering of the elements will be used.
+     * @throws NullPointerException if either of sources is null
+     */
+    public SortedDifferenceIterator(final Iterator<? extends E> first, final Iterator<? extends E> second,
+                                    final Comparator<? super E> comparator) {
+        this.first = Objects.requireNonNull(first, "first");
+        this.second = Objects.requireNonNull(second, "second");
+        this.comparator = comparator;
+        advanceFirst();
+        advanceSecond();
+        nextDifference();
+    }
+
+    /**
+     * Indicates if there are more differences available.
+     *
+     * @return true if there are more differences, otherwise false
+     */
+    @Override
+    public boolean hasNext() {
+        return nextDifference != null;
+    }
+
+    /**
+     * Returns the next difference of the sources.
+     *
+     * @return an entry of element and signed difference of its counts
+     * @throws NoSuchElementException if there are no more differences
+     */
+    @Override
+    public Map.Entry<E, Integer> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final Map.Entry<E, Integer> result = nextDifference;
+        nextDifference();
+        return result;
+    }
+
+    /**
+     * Operation is not supported, and will throw an {@code UnsupportedOperationException}.
+     */
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove() is not supported");
+    }
+
+    private void nextDifference() {
+        nextDifference = null;
+        while (nextDifference == null && (hasFirstHead || hasSecondHead)) {
+            final E key;
+            if (!hasSecondHead) {
+                key = firstHead;
+            } else if (!hasFirstHead) {
+                key = secondHead;
+            } else {
+                key = compareElements(firstHead, secondHead) <= 0 ? firstHead : secondHead;
+            }
+
+            int count = 0;
+            while (hasFirstHead && compareElements(firstHead, key) == 0) {
+                ++count;
+                advanceFirst();
+            }
+            while (hasSecondHead && compareElements(secondHead, key) == 0) {
+                --count;
+                advanceSecond();
+            }
+
+            if (count != 0) {
+                nextDifference = new AbstractMap.SimpleImmutableEntry<>(key, count);
+            }
+        }
+    }
+
+    private void advanceFirst() {
+        hasFirstHead = first.hasNext();
+        firstHead = hasFirstHead ? first.next() : null;
+    }
+
+    private void advanceSecond() {
+        hasSecondHead = second.hasNext();
+        secondHead = hasSecondHead ? second.next() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compareElements(E e1, E e2) {
+        return comparator == null
+                ? ((Comparable<? super E>) e1).compareTo(e2)
+                : comparator.compare(e1, e2);
+    }
+
+}
@@ -0,0 +1,358 @@
+package io.github.hextriclosan.algorithm.sorting;
+
+import io.github.hextriclosan.algorithm.comparators.LexicographicalComparator;
+import io.github.hextriclosan.algorithm.iterators.MergingIterator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Sorter of sequences in lexicographical order, for datasets which don't fit into the heap.
+ * <p>
+ * Input sequences are collected into runs bounded by the maximal run length, i.e. the total number of elements
+ * of sequences in a run, not their size in bytes. Every run is sorted in parallel
+ * with {@link LexicographicalComparator} semantics and spilled into a temporary file. Then runs are merged,
+ * at most {@code fanIn} at a time, by a {@link MergingIterator} loser tree, which takes about
+ * log<sub>2</sub>(fanIn) comparisons per sequence.
+ * Inputs which fit into a single run are sorted in memory and never spilled.
+ * <p>
+ * Sequences are written to the output in the same format as to the spill files: the length of a sequence
+ * followed by its elements, written by the serializer, with a negative length marking the end of data.
+ * {@link #read(InputStream)} reads sorted sequences back.
+ *
+ * @param <E> the type of the elements of sequences being sorted
+ */
+public class ExternalMergeSorter<E> {
+
+    /**
+     * Writes and reads elements of sequences.
+     *
+     * @param <E> the type of elements
+     */
+    public interface Serializer<E> {
+
+        /**
+         * Writes an element.
+         *
+         * @param element the element to write
+         * @param output the output to write to
+         * @throws IOException if an I/O error occurs
+         */
+        void write(E element, DataOutput output) throws IOException;
+
+        /**
+         * Reads an element.
+         *
+         * @param input the input to read from
+         * @return the element read
+         * @throws IOException if an I/O error occurs
+         */
+        E read(DataInput input) throws IOException;
+    }
+
+    /**
+     * Default maximal run length, i.e. the total number of elements of sequences in a run.
+     */
+    public static final int DEFAULT_RUN_LENGTH = 1 << 20;
+
+    /**
+     * Default maximal number of runs merged at once.
+     */
+    public static final int DEFAULT_FAN_IN = 64;
+
+    private static final int END_OF_DATA = -1;
+
+    /**
+     * The comparator of sequences.
+     */
+    private final Comparator<Iterable<E>> comparator;
+
+    /**
+     * The serializer of elements.
+     */
+    private final Serializer<E> serializer;
+
+    /**
+     * The maximal run length, i.e. the total number of elements of sequences in a run.
+     */
+    private final int maxRunLength;
+
+    /**
+     * The maximal number of runs merged at once.
+     */
+    private final int fanIn;
+
+    /**
+     * The directory to create spill files in, or null if the default temporary-file directory is used.
+     */
+    private final Path tempDirectory;
+
+    /**
+     * Constructs a sorter that compares elements in the natural order, with default run length and fan-in.
+     *
+     * @param serializer the serializer of elements
+     * @throws NullPointerException if serializer is null
+     */
+    public ExternalMergeSorter(Serializer<E> serializer) {
+        this(null, serializer, DEFAULT_RUN_LENGTH, DEFAULT_FAN_IN, null);
+    }
+
+    /**
+     * Constructs a sorter with custom comparator, run length, fan-in and spill files directory.
+     *
+     * @param comparator the comparator used to compare elements of sequences.
+     *                   If null, the natural ordering of the elements will be used.
+     * @param serializer the serializer of elements
+     * @param maxRunLength the maximal run length, i.e. the total number of elements of sequences in a run,
+     *                     which bounds the memory taken by a run together with the sizes of elements.
+     *                     A single longer sequence still makes a run of its own.
+     * @param fanIn the maximal number of runs merged at once
+     * @param tempDirectory the directory to create spill files in,
+     *                      or null if the default temporary-file directory is used.
+     * @throws NullPointerException if serializer is null
+     * @throws IllegalArgumentException if maxRunLength is not positive or fanIn is less than 2
+     */
+    public ExternalMergeSorter(Comparator<? super E> comparator, Serializer<E> serializer, int maxRunLength,
+                               int fanIn, Path tempDirectory) {
+        Objects.requireNonNull(serializer, "serializer");
+        if (maxRunLength <= 0) {
+            throw new IllegalArgumentException("maxRunLength should be positive");
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("fanIn should be at least 2");
+        }
+        this.comparator = new LexicographicalComparator<>(comparator);
+        this.serializer = serializer;
+        this.maxRunLength = maxRunLength;
+        this.fanIn = fanIn;
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Sorts sequences of the input and writes them to the output.
+     * The output is flushed, but not closed.
+     *
+     * @param input the sequences to sort
+     * @param output the stream to write sorted sequences to
+     * @throws NullPointerException if input, output or any of sequences are null
+     * @throws IOException if an I/O error occurs
+     */
+    public void sort(Iterator<? extends List<E>> input, OutputStream output) throws IOException {
+        Objects.requireNonNull(input, "input");
+        Objects.requireNonNull(output, "output");
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+
+        List<List<E>> run = nextRun(input);
+        if (!input.hasNext()) {
+            for (List<E> sequence : run) {
+                writeSequence(sequence, out);
+            }
+            out.writeInt(END_OF_DATA);
+            out.flush();
+            return;
+        }
+
+        final Path directory = tempDirectory == null
+                ? Files.createTempDirectory("sort")
+                : Files.createTempDirectory(tempDirectory, "sort");
+        try {
+            List<Path> runs = new ArrayList<>();
+            do {
+                runs.add(spill(run, directory));
+                // the spilled run is released before the next one is collected
+                run = null;
+                if (input.hasNext()) {
+                    run = nextRun(input);
+                }
+            } while (run != null);
+
+            while (runs.size() > fanIn) {
+                final List<Path> merged = new ArrayList<>();
+                for (int from = 0; from < runs.size(); from += fanIn) {
+                    final List<Path> group = runs.subList(from, Math.min(runs.size(), from + fanIn));
+                    final Path file = Files.createTempFile(directory, "run", ".bin");
+                    try (OutputStream stream = Files.newOutputStream(file)) {
+                        merge(group, stream);
+                    }
+                    for (Path path : group) {
+                        Files.delete(path);
+                    }
+                    merged.add(file);
+                }
+                runs = merged;
+            }
+
+            merge(runs, output);
+        } finally {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+
+    /**
+     * Sorts sequences of the stream and writes them to the output.
+     * The input stream is closed, the output is flushed, but not closed.
+     *
+     * @param input the sequences to sort
+     * @param output the stream to write sorted sequences to
+     * @throws NullPointerException if input, output or any of sequences are null
+     * @throws IOException if an I/O error occurs
+     */
+    public void sort(Stream<? extends List<E>> input, OutputStream output) throws IOException {
+        Objects.requireNonNull(input, "input");
+        try (Stream<? extends List<E>> sequences = input) {
+            sort(sequences.iterator(), output);
+        }
+    }
+
+    /**
+     * Reads sequences written by this sorter. The stream is closed when all sequences are read.
+     *
+     * @param input the stream to read sequences from
+     * @return the iterator over sequences
+     * @throws NullPointerException if input is null
+     */
+    public Iterator<List<E>> read(InputStream input) {
+        Objects.requireNonNull(input, "input");
+        return new RunReader(input);
+    }
+
+    private List<List<E>> nextRun(Iterator<? extends List<E>> input) {
+        final List<List<E>> run = new ArrayList<>();
+        long elements = 0;
+        while (input.hasNext() && (run.isEmpty() || elements < maxRunLength)) {
+            final List<E> sequence = Objects.requireNonNull(input.next(), "sequence");
+            run.add(sequence);
+            elements += sequence.size();
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final List<E>[] array = run.toArray(new List[0]);
+        Arrays.parallelSort(array, comparator);
+        return Arrays.asList(array);
+    }
+
+    private Path spill(List<List<E>> run, Path directory) throws IOException {
+        final Path file = Files.createTempFile(directory, "run", ".bin");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            for (List<E> sequence : run) {
+                writeSequence(sequence, out);
+            }
+            out.writeInt(END_OF_DATA);
+        }
+        return file;
+    }
+
+    private void merge(List<Path> runs, OutputStream output) throws IOException {
+        final List<RunReader> readers = new ArrayList<>();
+        try {
+            for (Path run : runs) {
+                final InputStream stream = Files.newInputStream(run);
+                try {
+                    readers.add(new RunReader(stream));
+                } catch (RuntimeException e) {
+                    stream.close();
+                    throw e;
+                }
+            }
+
+            final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+            final Iterator<List<E>> merged = new MergingIterator<>(readers, comparator);
+            while (merged.hasNext()) {
+                writeSequence(merged.next(), out);
+            }
+            out.writeInt(END_OF_DATA);
+            out.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    private void writeSequence(List<E> sequence, DataOutput out) throws IOException {
+        out.writeInt(sequence.size());
+        for (E element : sequence) {
+            serializer.write(element, out);
+        }
+    }
+
+    /**
+     * Iterator over sequences of a run, which closes the stream when the run is over.
+     */
+    private final class RunReader implements Iterator<List<E>>, Closeable {
+        private final DataInputStream input;
+        private List<E> next;
+
+        RunReader(InputStream stream) {
+            input = new DataInputStream(new BufferedInputStream(stream));
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public List<E> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final List<E> result = next;
+            advance();
+            return result;
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+
+        private void advance() {
+            try {
+                final int size = input.readInt();
+                if (size < 0) {
+                    next = null;
+                    input.close();
+                    return;
+                }
+
+                next = new ArrayList<>(size);
+                for (int i = 0; i < size; ++i) {
+                    next.add(serializer.read(input));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,255 @@
+package io.github.hextriclosan.algorithm.sorting;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorter of sequences in lexicographical order using multikey quicksort by Bentley and Sedgewick.
+ * <p>
+ * Sequences are partitioned into three parts by a single element at the current depth: less than,
+ * equal to, and greater than the pivot element. Only the middle part proceeds to the next element,
+ * so prefixes which are known to be equal are never compared again, and the number of element
+ * comparisons is O(N log N + D), where D is the total length of distinguishing prefixes, rather than
+ * O(N log N * L) of comparison sorts. Large partitions are sorted in parallel on the common fork-join pool.
+ * <p>
+ * The produced order is the order of {@link io.github.hextriclosan.algorithm.comparators.LexicographicalComparator}
+ * with the same element comparator. The sort is not stable.
+ * Sequences which are not {@link RandomAccess} are copied once, so that their elements are accessed by index.
+ *
+ * @param <E> the type of the elements of sequences being sorted
+ */
+public class MultikeyQuicksort<E> {
+
+    /**
+     * Size of the range which is sorted with insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Size of the range which is not split into parallel tasks.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * The comparator used to compare elements of sequences,
+     * or null if it uses the natural ordering.
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Constructs a sorter that compares elements of sequences in the natural order.
+     */
+    public MultikeyQuicksort() {
+        this(null);
+    }
+
+    /**
+     * Constructs a sorter that compares elements of sequences with custom comparator.
+     *
+     * @param comparator the comparator used to compare elements of sequences.
+     *                   If null, the natural ordering of the elements will be used.
+     */
+    public MultikeyQuicksort(final Comparator<? super E> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Sorts the list of sequences in place.
+     *
+     * @param sequences the list of sequences to sort
+     * @param <S> the type of sequences
+     * @throws NullPointerException if the list or any of sequences are null
+     */
+    public <S extends List<E>> void sort(final List<S> sequences) {
+        Objects.requireNonNull(sequences, "sequences");
+        final Object[] originals = sequences.toArray();
+        final List<?>[] views = new List<?>[originals.length];
+        boolean copied = false;
+        for (int i = 0; i < originals.length; ++i) {
+            final List<?> sequence = Objects.requireNonNull((List<?>) originals[i], "sequence");
+            if (sequence instanceof RandomAccess) {
+                views[i] = sequence;
+            } else {
+                views[i] = new ArrayList<>(sequence);
+                copied = true;
+            }
+        }
+
+        new SortTask(views, copied ? originals : null, 0, views.length, 0).invoke();
+
+        final ListIterator<S> iterator = sequences.listIterator();
+        for (int i = 0; i < originals.length; ++i) {
+            iterator.next();
+            @SuppressWarnings("unchecked")
+            final S sequence = (S) (copied ? originals[i] : views[i]);
+            iterator.set(sequence);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        MultikeyQuicksort<?> that = (MultikeyQuicksort<?>) o;
+        return Objects.equals(comparator, that.comparator);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(comparator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compareElements(Object e1, Object e2) {
+        return comparator == null
+                ? ((Comparable<Object>) e1).compareTo(e2)
+                : ((Comparator<Object>) comparator).compare(e1, e2);
+    }
+
+    /**
+     * Sorts the range of sequences whose first {@code depth} elements are known to be equal.
+     * Originals, if present, are permuted in sync with their index views.
+     */
+    private final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<?>[] views;
+        private final transient Object[] originals;
+        private final int from;
+        private final int to;
+        private final int depth;
+
+        SortTask(List<?>[] views, Object[] originals, int from, int to, int depth) {
+            this.views = views;
+            this.originals = originals;
+            this.from = from;
+            this.to = to;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            final List<ForkJoinTask<?>> forked = new ArrayList<>();
+            int lo = from;
+            int hi = to;
+            int d = depth;
+            while (hi - lo > 1) {
+                if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+                    insertionSort(lo, hi, d);
+                    break;
+                }
+
+                final int mid = lo + (hi - lo) / 2;
+                final int pivotIndex = median(lo, mid, hi - 1, d);
+                final boolean pivotEnded = views[pivotIndex].size() <= d;
+                final Object pivot = pivotEnded ? null : views[pivotIndex].get(d);
+
+                // Dijkstra's 3-way partitioning: [lo, lt) < pivot, [lt, i) == pivot, (gt, hi) > pivot
+                int lt = lo;
+                int gt = hi - 1;
+                int i = lo;
+                while (i <= gt) {
+                    final int compared = compareToPivot(views[i], d, pivot, pivotEnded);
+                    if (compared < 0) {
+                        swap(lt++, i++);
+                    } else if (compared > 0) {
+                        swap(i, gt--);
+                    } else {
+                        ++i;
+                    }
+                }
+
+                sortPart(lo, lt, d, forked);
+                sortPart(gt + 1, hi, d, forked);
+                if (pivotEnded) {
+                    break;
+                }
+                lo = lt;
+                hi = gt + 1;
+                ++d;
+            }
+
+            for (ForkJoinTask<?> task : forked) {
+                task.join();
+            }
+        }
+
+        private void sortPart(int lo, int hi, int d, List<ForkJoinTask<?>> forked) {
+            if (hi - lo > PARALLEL_THRESHOLD) {
+                forked.add(new SortTask(views, originals, lo, hi, d).fork());
+            } else if (hi - lo > 1) {
+                new SortTask(views, originals, lo, hi, d).compute();
+            }
+        }
+
+        private int compareToPivot(List<?> sequence, int d, Object pivot, boolean pivotEnded) {
+            final boolean ended = sequence.size() <= d;
+            if (ended || pivotEnded) {
+                return Boolean.compare(!ended, !pivotEnded);
+            }
+            return compareElements(sequence.get(d), pivot);
+        }
+
+        private int compareAt(int i, int j, int d) {
+            final List<?> sequence = views[j];
+            final boolean ended = sequence.size() <= d;
+            return compareToPivot(views[i], d, ended ? null : sequence.get(d), ended);
+        }
+
+        private int median(int a, int b, int c, int d) {
+            if (compareAt(a, b, d) < 0) {
+                if (compareAt(b, c, d) < 0) {
+                    return b;
+                }
+                return compareAt(a, c, d) < 0 ? c : a;
+            }
+            if (compareAt(a, c, d) < 0) {
+                return a;
+            }
+            return compareAt(b, c, d) < 0 ? c : b;
+        }
+
+        private void insertionSort(int lo, int hi, int d) {
+            for (int i = lo + 1; i < hi; ++i) {
+                for (int j = i; j > lo && compareSuffixes(views[j - 1], views[j], d) > 0; --j) {
+                    swap(j - 1, j);
+                }
+            }
+        }
+
+        private int compareSuffixes(List<?> s1, List<?> s2, int d) {
+            final int size = Math.min(s1.size(), s2.size());
+            for (int i = d; i < size; ++i) {
+                final int compared = compareElements(s1.get(i), s2.get(i));
+                if (compared != 0) {
+                    return compared;
+                }
+            }
+            return Integer.compare(s1.size(), s2.size());
+        }
+
+        private void swap(int i, int j) {
+            final List<?> view = views[i];
+            views[i] = views[j];
+            views[j] = view;
+            if (originals != null) {
+                final Object original = originals[i];
+                originals[i] = originals[j];
+                originals[j] = original;
+            }
+        }
+    }
+
+}
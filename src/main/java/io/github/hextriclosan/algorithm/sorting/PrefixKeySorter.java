@@ -0,0 +1,172 @@
+package io.github.hextriclosan.algorithm.sorting;
+
+import io.github.hextriclosan.algorithm.comparators.LexicographicalComparator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * Sorter of sequences in lexicographical order, which avoids re-walking shared prefixes of sequences
+ * on every comparison.
+ * <p>
+ * A normalized prefix key, an unsigned int, is computed once per sequence. Pairs of prefix key and
+ * sequence index are packed into longs and sorted with {@link Arrays#parallelSort(long[])}, and
+ * only sequences with equal prefix keys are compared with {@link LexicographicalComparator}.
+ * <p>
+ * The prefix key must be consistent with the lexicographical order: if one sequence is less than another,
+ * its prefix key must be less than or equal to the prefix key of the other one, comparing keys as unsigned
+ * values. {@link #packedPrefix(ToIntFunction, int)} builds such a key from an order-preserving key of elements.
+ * <p>
+ * The sort is stable and produces the same order as sorting with {@link LexicographicalComparator}.
+ *
+ * @param <E> the type of the elements of sequences being sorted
+ */
+public class PrefixKeySorter<E> {
+
+    /**
+     * The comparator used to compare elements of sequences,
+     * or null if it uses the natural ordering.
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * The function computing normalized prefix key of a sequence.
+     */
+    private final ToIntFunction<? super Iterable<E>> prefixKey;
+
+    /**
+     * Constructs a sorter that compares elements of sequences in the natural order.
+     *
+     * @param prefixKey the function computing normalized prefix key of a sequence
+     * @throws NullPointerException if prefixKey is null
+     */
+    public PrefixKeySorter(final ToIntFunction<? super Iterable<E>> prefixKey) {
+        this(null, prefixKey);
+    }
+
+    /**
+     * Constructs a sorter that compares elements of sequences with custom comparator.
+     *
+     * @param comparator the comparator used to compare elements of sequences.
+     *                   If null, the natural ordering of the elements will be used.
+     * @param prefixKey the function computing normalized prefix key of a sequence
+     * @throws NullPointerException if prefixKey is null
+     */
+    public PrefixKeySorter(final Comparator<? super E> comparator, final ToIntFunction<? super Iterable<E>> prefixKey) {
+        this.comparator = comparator;
+        this.prefixKey = Objects.requireNonNull(prefixKey, "prefixKey");
+    }
+
+    /**
+     * Builds a prefix key which packs keys of as many leading elements as fit into 32 bits.
+     * Every element takes {@code bitsPerElement + 1} bits, so that a sequence which ends before
+     * the key is filled is less than any longer one. At most 30 bits per element are supported, so that
+     * a slot of {@code bitsPerElement + 1} bits fits into 31 bits and its mask doesn't overflow.
+     * <p>
+     * The element key must be in range [0, 2<sup>bitsPerElement</sup>) and consistent with the element order:
+     * if one element is less than another, its key must be less than or equal to the key of the other one.
+     * E.g. {@code c -> c - 'a'} with 5 bits for lowercase latin letters, which packs five letters.
+     *
+     * @param elementKey the order-preserving key of an element
+     * @param bitsPerElement the number of bits of the element key, between 1 and 30
+     * @param <E> the type of the elements of sequences
+     * @return the prefix key function
+     * @throws NullPointerException if elementKey is null
+     * @throws IllegalArgumentException if bitsPerElement is out of range
+     */
+    public static <E> ToIntFunction<Iterable<E>> packedPrefix(final ToIntFunction<? super E> elementKey,
+                                                             final int bitsPerElement) {
+        Objects.requireNonNull(elementKey, "elementKey");
+        if (bitsPerElement < 1 || bitsPerElement > Integer.SIZE - 2) {
+            throw new IllegalArgumentException("bitsPerElement should be between 1 and 30");
+        }
+
+        final int slotBits = bitsPerElement + 1;
+        final int slots = Integer.SIZE / slotBits;
+        final int mask = (1 << slotBits) - 1;
+        return sequence -> {
+            final Iterator<E> iterator = sequence.iterator();
+            int key = 0;
+            for (int slot = 0; slot < slots; ++slot) {
+                final int code = iterator.hasNext() ? (elementKey.applyAsInt(iterator.next()) + 1) & mask : 0;
+                key = key << slotBits | code;
+            }
+            return key << (Integer.SIZE - slots * slotBits);
+        };
+    }
+
+    /**
+     * Sorts the list of sequences in place.
+     *
+     * @param sequences the list of sequences to sort
+     * @param <S> the type of sequences
+     * @throws NullPointerException if the list or any of sequences are null
+     */
+    public <S extends Iterable<E>> void sort(final List<S> sequences) {
+        Objects.requireNonNull(sequences, "sequences");
+        final Object[] elements = sequences.toArray();
+        final int size = elements.length;
+
+        final long[] keys = new long[size];
+        for (int i = 0; i < size; ++i) {
+            @SuppressWarnings("unchecked")
+            final S sequence = (S) elements[i];
+            // flip the sign bit so that signed comparison of longs orders prefix keys as unsigned values
+            keys[i] = (long) (prefixKey.applyAsInt(sequence) ^ Integer.MIN_VALUE) << Integer.SIZE | i;
+        }
+        Arrays.parallelSort(keys);
+
+        final Object[] sorted = new Object[size];
+        for (int i = 0; i < size; ++i) {
+            sorted[i] = elements[(int) keys[i]];
+        }
+
+        final Comparator<Iterable<E>> sequenceComparator = new LexicographicalComparator<>(comparator);
+        for (int from = 0, to; from < size; from = to) {
+            final long prefix = keys[from] >>> Integer.SIZE;
+            for (to = from + 1; to < size && keys[to] >>> Integer.SIZE == prefix; ++to) {
+            }
+            if (to - from > 1) {
+                sortTies(sorted, from, to, sequenceComparator);
+            }
+        }
+
+        final ListIterator<S> iterator = sequences.listIterator();
+        for (Object sequence : sorted) {
+            iterator.next();
+            @SuppressWarnings("unchecked")
+            final S s = (S) sequence;
+            iterator.set(s);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        PrefixKeySorter<?> that = (PrefixKeySorter<?>) o;
+        return Objects.equals(comparator, that.comparator) && Objects.equals(prefixKey, that.prefixKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(comparator, prefixKey);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> void sortTies(Object[] sorted, int from, int to, Comparator<Iterable<E>> comparator) {
+        Arrays.sort(sorted, from, to, (o1, o2) -> comparator.compare((Iterable<E>) o1, (Iterable<E>) o2));
+    }
+
+}
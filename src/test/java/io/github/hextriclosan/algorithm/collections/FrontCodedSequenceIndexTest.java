@@ -0,0 +1,123 @@
+package io.github.hextriclosan.algorithm.collections;
+
+import io.github.hextriclosan.algorithm.comparators.LexicographicalComparator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FrontCodedSequenceIndexTest {
+
+    private static final List<List<Character>> WORDS = Arrays.asList(
+            Collections.emptyList(),
+            Arrays.asList('b', 'a', 'n'),
+            Arrays.asList('b', 'a', 'n', 'd'),
+            Arrays.asList('b', 'a', 'n', 'd'),
+            Arrays.asList('b', 'a', 'n', 'k'),
+            Arrays.asList('b', 'e', 'd'),
+            Arrays.asList('c', 'a', 't'));
+
+    @Test
+    void shouldRestoreSequences() {
+        FrontCodedSequenceIndex<Character> index = new FrontCodedSequenceIndex<>(WORDS, null, 3);
+
+        assertEquals(WORDS.size(), index.size());
+        for (int i = 0; i < WORDS.size(); ++i) {
+            assertEquals(WORDS.get(i), index.get(i));
+        }
+        assertEquals(WORDS, drain(index.iterator()));
+    }
+
+    @Test
+    void shouldBinarySearchSequences() {
+        FrontCodedSequenceIndex<Character> index = new FrontCodedSequenceIndex<>(WORDS, null, 3);
+
+        assertEquals(0, index.binarySearch(Collections.emptyList()));
+        assertEquals(2, index.binarySearch(Arrays.asList('b', 'a', 'n', 'd')));
+        assertEquals(5, index.binarySearch(Arrays.asList('b', 'e', 'd')));
+        assertEquals(-2, index.binarySearch(Arrays.asList('a')));
+        assertEquals(-6, index.binarySearch(Arrays.asList('b', 'e')));
+        assertEquals(-8, index.binarySearch(Arrays.asList('d')));
+    }
+
+    @Test
+    void shouldFindFloorAndCeiling() {
+        FrontCodedSequenceIndex<Character> index = new FrontCodedSequenceIndex<>(WORDS, null, 3);
+
+        assertEquals(Arrays.asList('b', 'a', 'n', 'k'), index.floor(Arrays.asList('b', 'a', 'z')));
+        assertEquals(Arrays.asList('b', 'e', 'd'), index.ceiling(Arrays.asList('b', 'a', 'z')));
+        assertEquals(Arrays.asList('c', 'a', 't'), index.floor(Arrays.asList('d')));
+        assertNull(index.ceiling(Arrays.asList('d')));
+        assertEquals(-1, new FrontCodedSequenceIndex<Character>(WORDS.subList(1, 3)).floorIndex(Arrays.asList('a')));
+    }
+
+    @Test
+    void shouldIterateOverPrefixRange() {
+        FrontCodedSequenceIndex<Character> index = new FrontCodedSequenceIndex<>(WORDS, null, 3);
+
+        assertEquals(WORDS.subList(1, 5), drain(index.prefixRange(Arrays.asList('b', 'a'))));
+        assertEquals(WORDS.subList(1, 6), drain(index.prefixRange(Arrays.asList('b'))));
+        assertEquals(Collections.emptyList(), drain(index.prefixRange(Arrays.asList('b', 'o'))));
+        assertEquals(WORDS, drain(index.prefixRange(Collections.emptyList())));
+    }
+
+    @Test
+    void shouldMatchSortedListWithCustomComparator() {
+        Random random = new Random(0);
+        Comparator<Integer> comparator = Comparator.reverseOrder();
+        List<List<Integer>> sequences = new ArrayList<>();
+        for (int i = 0; i < 2_000; ++i) {
+            List<Integer> sequence = new ArrayList<>();
+            int length = random.nextInt(6);
+            for (int j = 0; j < length; ++j) {
+                sequence.add(random.nextInt(3));
+            }
+            sequences.add(sequence);
+        }
+        LexicographicalComparator<Integer> sequenceComparator = new LexicographicalComparator<>(comparator);
+        sequences.sort(sequenceComparator);
+        FrontCodedSequenceIndex<Integer> index = new FrontCodedSequenceIndex<>(sequences, comparator);
+
+        for (int i = 0; i < 500; ++i) {
+            List<Integer> key = new ArrayList<>();
+            int length = random.nextInt(6);
+            for (int j = 0; j < length; ++j) {
+                key.add(random.nextInt(3));
+            }
+            int expected = Collections.binarySearch(sequences, key, sequenceComparator);
+            int found = index.binarySearch(key);
+            if (expected >= 0) {
+                assertEquals(key, index.get(found));
+                assertEquals(found, index.ceilingIndex(key));
+                if (found > 0) {
+                    assertEquals(-1, sequenceComparator.compare(index.get(found - 1), key));
+                }
+            } else {
+                assertEquals(expected, found);
+            }
+        }
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionForUnsortedSequences() {
+        List<List<Character>> unsorted = Arrays.asList(Arrays.asList('b'), Arrays.asList('a'));
+
+        assertThrows(IllegalArgumentException.class, () -> new FrontCodedSequenceIndex<>(unsorted));
+    }
+
+    private static <E> List<List<E>> drain(Iterator<List<E>> iterator) {
+        List<List<E>> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+}
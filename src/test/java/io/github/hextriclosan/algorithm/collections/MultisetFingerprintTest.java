@@ -0,0 +1,78 @@
+package io.github.hextriclosan.algorithm.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultisetFingerprintTest {
+
+    @Test
+    void shouldMatchForPermutations() {
+        MultisetFingerprint<Character> one = MultisetFingerprint.of(Arrays.asList('A', 'B', 'B', 'C'));
+        MultisetFingerprint<Character> another = MultisetFingerprint.of(Arrays.asList('B', 'C', 'A', 'B'));
+
+        assertTrue(one.mightBePermutationOf(another));
+        assertEquals(one, another);
+        assertEquals(one.hashCode(), another.hashCode());
+    }
+
+    @Test
+    void shouldNotMatchForDifferentMultisets() {
+        MultisetFingerprint<Character> one = MultisetFingerprint.of(Arrays.asList('A', 'B', 'C'));
+        MultisetFingerprint<Character> another = MultisetFingerprint.of(Arrays.asList('A', 'B', 'B'));
+
+        assertFalse(one.mightBePermutationOf(another));
+        assertNotEquals(one, another);
+    }
+
+    @Test
+    void shouldNotMatchForMultisetsWithCancellingHashCodes() {
+        MultisetFingerprint<Integer> one = MultisetFingerprint.of(Arrays.asList(1, 4));
+        MultisetFingerprint<Integer> another = MultisetFingerprint.of(Arrays.asList(2, 3));
+
+        assertFalse(one.mightBePermutationOf(another));
+    }
+
+    @Test
+    void shouldNotMatchForDifferentSizeMultisets() {
+        MultisetFingerprint<Integer> one = MultisetFingerprint.of(Collections.emptyList());
+        MultisetFingerprint<Integer> another = MultisetFingerprint.of(Collections.singletonList(null));
+
+        assertFalse(one.mightBePermutationOf(another));
+        assertEquals(0, one.size());
+        assertEquals(1, another.size());
+    }
+
+    @Test
+    void shouldBeUpdatedIncrementally() {
+        MultisetFingerprint<Character> fingerprint = MultisetFingerprint.of(Arrays.asList('A', 'B', 'C'));
+
+        fingerprint.remove('B').add('D');
+
+        assertEquals(MultisetFingerprint.of(Arrays.asList('C', 'D', 'A')), fingerprint);
+    }
+
+    @Test
+    void shouldMergeShards() {
+        List<Character> first = Arrays.asList('A', 'B');
+        List<Character> second = Arrays.asList('C', 'A');
+
+        MultisetFingerprint<Character> merged = MultisetFingerprint.of(first).merge(MultisetFingerprint.of(second));
+
+        assertEquals(MultisetFingerprint.of(Arrays.asList('A', 'A', 'B', 'C')), merged);
+    }
+
+    @Test
+    void shouldThrowIllegalStateExceptionWhenRemovingFromEmptyMultiset() {
+        assertThrows(IllegalStateException.class, () -> new MultisetFingerprint<Character>().remove('A'));
+    }
+
+}
@@ -4,9 +4,11 @@ import io.github.hextriclosan.algorithm.helpers.CustomComparator;
 import io.github.hextriclosan.algorithm.helpers.NonComparableObject;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedList;
 
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -101,6 +103,29 @@ class LexicographicalComparatorTest {
                 Collections.singletonList(1L)));
     }
 
+    @Test
+    void shouldCompareRandomAccessListsAndOtherIterablesConsistently() {
+        Iterable<Character> linkedAB = new LinkedList<>(Arrays.asList('A', 'B'));
+        Iterable<Character> arrayABC = new ArrayList<>(Arrays.asList('A', 'B', 'C'));
+
+        assertEquals(-1, naturalOrderComparator.compare(AB, ABC));
+        assertEquals(1, naturalOrderComparator.compare(ABC, AB));
+        assertEquals(0, naturalOrderComparator.compare(ABC, arrayABC));
+        assertEquals(-1, naturalOrderComparator.compare(linkedAB, arrayABC));
+        assertEquals(1, naturalOrderComparator.compare(arrayABC, linkedAB));
+        assertTrue(customOrderComparator.compare(arrayABC, CBA) > 0);
+    }
+
+    @Test
+    void shouldCompareArraysOfPrimitives() {
+        assertTrue(LexicographicalComparator.intArrays().compare(new int[]{1, 2}, new int[]{1, 2, 3}) < 0);
+        assertTrue(LexicographicalComparator.intArrays().compare(new int[]{-1, 2}, new int[]{-2, 3}) > 0);
+        assertTrue(LexicographicalComparator.longArrays().compare(new long[]{1, 2}, new long[]{1, 3}) < 0);
+        assertEquals(0, LexicographicalComparator.longArrays().compare(new long[]{1, 2}, new long[]{1, 2}));
+        assertTrue(LexicographicalComparator.charArrays().compare("ABC".toCharArray(), "AB".toCharArray()) > 0);
+        assertTrue(LexicographicalComparator.byteArrays().compare(new byte[]{-1}, new byte[]{1}) < 0);
+    }
+
     @Test
     void shouldTreatDefaultConstructedObjectsAsEqual() {
         Comparator<Iterable<Number>> one = new LexicographicalComparator<>();
@@ -0,0 +1,91 @@
+package io.github.hextriclosan.algorithm.comparators;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UnsignedBytesComparatorTest {
+
+    private static final Comparator<ByteBuffer> comparator = new UnsignedBytesComparator();
+
+    @Test
+    void shouldCompareBytesAsUnsigned() {
+        assertTrue(comparator.compare(ByteBuffer.wrap(new byte[]{1}), ByteBuffer.wrap(new byte[]{(byte) 0xFF})) < 0);
+        assertTrue(comparator.compare(ByteBuffer.wrap(new byte[]{(byte) 0x80}), ByteBuffer.wrap(new byte[]{0x7F})) > 0);
+    }
+
+    @Test
+    void shouldCompareRemainingBytesWithoutChangingPositions() {
+        ByteBuffer first = ByteBuffer.wrap(new byte[]{9, 1, 2, 3});
+        first.position(1);
+        ByteBuffer second = ByteBuffer.allocateDirect(3).put(new byte[]{1, 2, 3});
+        second.flip();
+
+        assertEquals(0, comparator.compare(first, second));
+        assertEquals(1, first.position());
+        assertEquals(0, second.position());
+    }
+
+    @Test
+    void shouldTreatPrefixAsLess() {
+        ByteBuffer prefix = ByteBuffer.wrap(new byte[]{1, 2});
+        ByteBuffer whole = ByteBuffer.wrap(new byte[]{1, 2, 0});
+
+        assertTrue(comparator.compare(prefix, whole) < 0);
+        assertTrue(comparator.compare(whole, prefix) > 0);
+        assertEquals(0, comparator.compare(ByteBuffer.allocate(0), ByteBuffer.allocateDirect(0)));
+    }
+
+    @Test
+    void shouldCompareByteArraysAndSlices() {
+        assertTrue(UnsignedBytesComparator.byteArrays().compare(new byte[]{-1}, new byte[]{1}) > 0);
+        assertEquals(0, UnsignedBytesComparator.compare(new byte[]{0, 5, 6}, 1, 3, new byte[]{5, 6, 0}, 0, 2));
+    }
+
+    @Test
+    void shouldCompareRangesOfBuffersInAnyByteOrder() {
+        Random random = new Random(0);
+        for (int length = 0; length < 40; ++length) {
+            byte[] a = new byte[length + 3];
+            byte[] b = new byte[length + 5];
+            random.nextBytes(a);
+            System.arraycopy(a, 3, b, 5, length);
+            if (length > 0) {
+                int changed = random.nextInt(length);
+                b[5 + changed] = (byte) random.nextInt();
+            }
+            int expected = Integer.signum(UnsignedBytesComparator.compare(a, 3, a.length, b, 5, b.length));
+
+            ByteBuffer heapA = ByteBuffer.wrap(a);
+            ByteBuffer directB = ByteBuffer.allocateDirect(b.length).order(ByteOrder.LITTLE_ENDIAN).put(b);
+            ByteBuffer directA = ByteBuffer.allocateDirect(a.length).put(a);
+
+            assertEquals(expected, Integer.signum(UnsignedBytesComparator.compare(heapA, 3, ByteBuffer.wrap(b), 5, length)));
+            assertEquals(expected, Integer.signum(UnsignedBytesComparator.compare(heapA, 3, directB, 5, length)));
+            assertEquals(expected, Integer.signum(UnsignedBytesComparator.compare(directA, 3, directB, 5, length)));
+            assertEquals(-expected, Integer.signum(UnsignedBytesComparator.compare(directB, 5, directA, 3, length)));
+        }
+    }
+
+    @Test
+    void shouldThrowIndexOutOfBoundsExceptionWhenRangeIsOutOfBuffer() {
+        assertThrows(IndexOutOfBoundsException.class, () -> UnsignedBytesComparator.compare(
+                ByteBuffer.allocate(8), 4, ByteBuffer.allocate(8), 0, 8));
+        assertThrows(IndexOutOfBoundsException.class, () -> UnsignedBytesComparator.compare(
+                ByteBuffer.allocateDirect(8), 4, ByteBuffer.allocateDirect(8), 0, 8));
+    }
+
+    @Test
+    void shouldTreatObjectsAsEqual() {
+        assertEquals(new UnsignedBytesComparator(), new UnsignedBytesComparator());
+        assertEquals(new UnsignedBytesComparator().hashCode(), new UnsignedBytesComparator().hashCode());
+    }
+
+}
@@ -3,10 +3,13 @@ package io.github.hextriclosan.algorithm.functors;
 import io.github.hextriclosan.algorithm.helpers.CustomBiPredicate;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.function.BiPredicate;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -81,6 +84,46 @@ class IsPermutationPredicateTest {
         ));
     }
 
+    @Test
+    void shouldReturnTrueWhenOneLinkedListIsPermutationOfAnother() {
+        assertTrue(naturalEqualityPredicate.test(new LinkedList<>(Arrays.asList('A', 'B', 'B', 'C')),
+                new LinkedList<>(Arrays.asList('B', 'C', 'B', 'A'))));
+    }
+
+    @Test
+    void shouldReturnTrueWhenOneListIsPermutationOfAnotherWithNullElements() {
+        assertTrue(naturalEqualityPredicate.test(Arrays.asList('A', null, null), Arrays.asList(null, 'A', null)));
+    }
+
+    @Test
+    void shouldReturnTrueWhenOneIterableIsPermutationOfAnother() {
+        IsPermutationPredicate<Character> predicate = new IsPermutationPredicate<>();
+        assertTrue(predicate.test(new ArrayDeque<>(Arrays.asList('A', 'B', 'B')), Arrays.asList('B', 'A', 'B')));
+    }
+
+    @Test
+    void shouldReturnFalseWhenOneIterableIsNotPermutationOfAnother() {
+        IsPermutationPredicate<Character> predicate = new IsPermutationPredicate<>();
+        assertFalse(predicate.test(new ArrayDeque<>(Arrays.asList('A', 'B', 'B')), Arrays.asList('B', 'A', 'A')));
+        assertFalse(predicate.test(new ArrayDeque<>(Arrays.asList('A', 'B')), Arrays.asList('B', 'A', 'A')));
+        assertFalse(predicate.test(new ArrayDeque<>(Arrays.asList('A', 'B', 'A')), Arrays.asList('B', 'A')));
+    }
+
+    @Test
+    void shouldReturnTrueWhenOneStreamIsPermutationOfAnother() {
+        IsPermutationPredicate<Integer> predicate = new IsPermutationPredicate<>();
+        assertTrue(predicate.test(Stream.iterate(0, i -> i + 1).limit(1000),
+                Stream.iterate(999, i -> i - 1).limit(1000)));
+    }
+
+    @Test
+    void shouldReturnTrueWhenOneStreamIsPermutationOfAnotherWithCustomBiPredicate() {
+        IsPermutationPredicate<Integer> predicate = new IsPermutationPredicate<>(
+                (integer1, integer2) -> integer1 % 3 == integer2 % 3);
+        assertTrue(predicate.test(Stream.of(1, 2, 3, 4), Stream.of(300, 10, 19, 17)));
+        assertFalse(predicate.test(Stream.of(1, 2, 3, 4), Stream.of(8, 10, 19, 17)));
+    }
+
     @Test
     void shouldTreatDefaultConstructedObjectsAsEqual() {
         BiPredicate<List<Short>, List<Short>> one = new IsPermutationPredicate<>();
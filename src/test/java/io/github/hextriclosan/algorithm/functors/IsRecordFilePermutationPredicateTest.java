@@ -0,0 +1,141 @@
+package io.github.hextriclosan.algorithm.functors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiPredicate;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IsRecordFilePermutationPredicateTest {
+    private static final int RECORD_SIZE = 12;
+    private static final int RECORDS_COUNT = 10000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReturnTrueForEmptyFiles() throws IOException {
+        BiPredicate<Path, Path> predicate = new IsRecordFilePermutationPredicate(RECORD_SIZE);
+
+        assertTrue(predicate.test(write("first", emptyRecords()), write("second", emptyRecords())));
+    }
+
+    @Test
+    void shouldReturnTrueWhenFitsInMemory() throws IOException {
+        List<Long> records = records(RECORDS_COUNT);
+        Path first = write("first", records);
+        Collections.shuffle(records, new Random(1));
+        Path second = write("second", records);
+
+        assertTrue(new IsRecordFilePermutationPredicate(RECORD_SIZE).test(first, second));
+    }
+
+    @Test
+    void shouldReturnTrueWhenOneFileIsPermutationOfAnotherWithSpilling() throws IOException {
+        List<Long> records = records(RECORDS_COUNT);
+        Path first = write("first", records);
+        Collections.shuffle(records, new Random(1));
+        Path second = write("second", records);
+
+        BiPredicate<Path, Path> predicate = new IsRecordFilePermutationPredicate(RECORD_SIZE, 4096, directory);
+
+        assertTrue(predicate.test(first, second));
+        assertEquals(2, countFiles());
+    }
+
+    @Test
+    void shouldReturnFalseWhenOneFileIsNotPermutationOfAnotherWithSpilling() throws IOException {
+        List<Long> records = records(RECORDS_COUNT);
+        Path first = write("first", records);
+        Collections.shuffle(records, new Random(1));
+        records.set(42, records.get(43));
+        Path second = write("second", records);
+
+        BiPredicate<Path, Path> predicate = new IsRecordFilePermutationPredicate(RECORD_SIZE, 4096, directory);
+
+        assertFalse(predicate.test(first, second));
+        assertEquals(2, countFiles());
+    }
+
+    @Test
+    void shouldReturnTrueForDuplicatedRecordsWithSpilling() throws IOException {
+        List<Long> records = new ArrayList<>(Collections.nCopies(RECORDS_COUNT, 7L));
+        records.set(0, 8L);
+        Path first = write("first", records);
+        Collections.reverse(records);
+        Path second = write("second", records);
+
+        assertTrue(new IsRecordFilePermutationPredicate(RECORD_SIZE, 4096, directory).test(first, second));
+    }
+
+    @Test
+    void shouldReturnFalseForDifferentSizeFiles() throws IOException {
+        Path first = write("first", records(3));
+        Path second = write("second", records(2));
+
+        assertFalse(new IsRecordFilePermutationPredicate(RECORD_SIZE).test(first, second));
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenFileSizeIsNotMultipleOfRecordSize() throws IOException {
+        Path first = write("first", records(3));
+        Path second = write("second", records(3));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new IsRecordFilePermutationPredicate(RECORD_SIZE + 1).test(first, second));
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenRecordSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new IsRecordFilePermutationPredicate(0));
+    }
+
+    @Test
+    void shouldTreatObjectsWithSameParametersAsEqual() {
+        BiPredicate<Path, Path> one = new IsRecordFilePermutationPredicate(RECORD_SIZE, 4096);
+        BiPredicate<Path, Path> another = new IsRecordFilePermutationPredicate(RECORD_SIZE, 4096);
+
+        assertEquals(one, another);
+        assertEquals(one.hashCode(), another.hashCode());
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static List<Long> emptyRecords() {
+        return Collections.emptyList();
+    }
+
+    private static List<Long> records(int count) {
+        Random random = new Random(0);
+        List<Long> records = new ArrayList<>();
+        for (int i = 0; i < count; ++i) {
+            records.add(random.nextLong() % 1000);
+        }
+        return records;
+    }
+
+    private Path write(String name, List<Long> records) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(records.size() * RECORD_SIZE);
+        for (long record : records) {
+            buffer.putLong(record).putInt((int) record);
+        }
+        return Files.write(directory.resolve(name), buffer.array());
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.hextriclosan.algorithm.functors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IsRecordFileSortedPredicateTest {
+    private static final int RECORD_SIZE = 16;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReturnTrueForEmptyFile() throws IOException {
+        Predicate<Path> predicate = new IsRecordFileSortedPredicate(RECORD_SIZE);
+
+        assertTrue(predicate.test(Files.write(directory.resolve("empty"), new byte[0])));
+    }
+
+    @Test
+    void shouldReturnTrueForSortedFile() throws IOException {
+        Path path = write(new long[]{-1L >>> 1, -1L >>> 1, -2, -1});
+
+        assertTrue(new IsRecordFileSortedPredicate(RECORD_SIZE, 0, 8).test(path));
+        assertEquals(4 * RECORD_SIZE, new IsRecordFileSortedPredicate(RECORD_SIZE, 0, 8).isSortedUntil(path));
+        assertEquals(RECORD_SIZE, new IsRecordFileSortedPredicate(RECORD_SIZE).isSortedUntil(path));
+    }
+
+    @Test
+    void shouldCompareKeysAsUnsignedBytes() throws IOException {
+        Path path = write(new long[]{1, -1, 2});
+
+        assertFalse(new IsRecordFileSortedPredicate(RECORD_SIZE).test(path));
+        assertEquals(2 * RECORD_SIZE, new IsRecordFileSortedPredicate(RECORD_SIZE).isSortedUntil(path));
+    }
+
+    @Test
+    void shouldCompareOnlyKeys() throws IOException {
+        Path path = write(new long[]{1, 2, 3});
+
+        // the key is the last 5 bytes of the long and 3 bytes of the index following it
+        assertTrue(new IsRecordFileSortedPredicate(RECORD_SIZE, 3, 8).test(path));
+        // the key is the index, which descends
+        assertEquals(RECORD_SIZE, new IsRecordFileSortedPredicate(RECORD_SIZE, 8, 8).isSortedUntil(path));
+    }
+
+    @Test
+    void shouldFindEarliestViolationAcrossSegments() throws IOException {
+        long[] keys = new long[10_000];
+        for (int i = 0; i < keys.length; ++i) {
+            keys[i] = i;
+        }
+        Path sorted = write(keys);
+        keys[7001] = 0;
+        keys[5000] = 0;
+        keys[2048] = 0;
+        Path unsorted = write(keys);
+
+        for (int segmentSize = RECORD_SIZE; segmentSize < keys.length * RECORD_SIZE; segmentSize = segmentSize * 4 + 3) {
+            IsRecordFileSortedPredicate predicate = new IsRecordFileSortedPredicate(RECORD_SIZE, 0, 8, segmentSize);
+
+            assertTrue(predicate.test(sorted));
+            assertEquals(2048L * RECORD_SIZE, predicate.isSortedUntil(unsorted));
+        }
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenFileSizeIsNotMultipleOfRecordSize() throws IOException {
+        Path path = write(new long[]{1, 2, 3});
+
+        assertThrows(IllegalArgumentException.class, () -> new IsRecordFileSortedPredicate(RECORD_SIZE + 1).test(path));
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenKeyIsOutOfRecord() {
+        assertThrows(IllegalArgumentException.class, () -> new IsRecordFileSortedPredicate(RECORD_SIZE, 10, 8));
+    }
+
+    @Test
+    void shouldClampSegmentSizeToMappableSize() throws IOException {
+        int clamped = (Integer.MAX_VALUE / RECORD_SIZE - 1) * RECORD_SIZE;
+        Predicate<Path> predicate = new IsRecordFileSortedPredicate(RECORD_SIZE, 0, 8, Integer.MAX_VALUE);
+
+        assertEquals(new IsRecordFileSortedPredicate(RECORD_SIZE, 0, 8, clamped), predicate);
+        assertNotEquals(new IsRecordFileSortedPredicate(RECORD_SIZE, 0, 8, clamped - RECORD_SIZE), predicate);
+        assertTrue(predicate.test(write(new long[]{1, 2, 3})));
+    }
+
+    @Test
+    void shouldTreatObjectsWithSameParametersAsEqual() {
+        Predicate<Path> one = new IsRecordFileSortedPredicate(RECORD_SIZE, 0, 8);
+        Predicate<Path> another = new IsRecordFileSortedPredicate(RECORD_SIZE, 0, 8);
+
+        assertEquals(one, another);
+        assertEquals(one.hashCode(), another.hashCode());
+    }
+
+    /**
+     * Writes records of a key followed by a descending index.
+     */
+    private Path write(long[] keys) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(keys.length * RECORD_SIZE);
+        for (int i = 0; i < keys.length; ++i) {
+            buffer.putLong(keys[i]).putLong(keys.length - i);
+        }
+        return Files.write(Files.createTempFile(directory, "records", ".bin"), buffer.array());
+    }
+}
@@ -4,9 +4,14 @@ import io.github.hextriclosan.algorithm.helpers.CustomComparator;
 import io.github.hextriclosan.algorithm.helpers.NonComparableObject;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -62,6 +67,89 @@ class IsSortedPredicateTest {
                 new NonComparableObject<>('B'))));
     }
 
+    @Test
+    void shouldReturnIndexOfFirstViolation() {
+        IsSortedPredicate<Character> predicate = new IsSortedPredicate<>();
+
+        assertEquals(3, predicate.isSortedUntil(Arrays.asList('A', 'B', 'B', 'A', 'C')));
+        assertEquals(3, predicate.isSortedUntil(new Character[]{'A', 'B', 'B', 'A', 'C'}));
+    }
+
+    @Test
+    void shouldReturnSizeWhenSorted() {
+        IsSortedPredicate<Character> predicate = new IsSortedPredicate<>();
+
+        assertEquals(3, predicate.isSortedUntil(Arrays.asList('A', 'B', 'C')));
+        assertEquals(3, predicate.isSortedUntil(new Character[]{'A', 'B', 'C'}));
+        assertEquals(0, predicate.isSortedUntil(emptyList()));
+        assertEquals(0, predicate.isSortedUntil(new Character[0]));
+        assertEquals(1, predicate.parallelIsSortedUntil(new Character[]{'A'}));
+    }
+
+    @Test
+    void shouldReturnEarliestViolationInParallel() {
+        IsSortedPredicate<Integer> predicate = new IsSortedPredicate<>();
+        List<Integer> list = IntStream.range(0, 1_000_000).boxed().collect(Collectors.toCollection(ArrayList::new));
+
+        assertEquals(list.size(), predicate.parallelIsSortedUntil(list));
+
+        list.set(900_000, 0);
+        list.set(500_001, 0);
+        list.set(123_457, 0);
+
+        assertEquals(123_457, predicate.parallelIsSortedUntil(list));
+        assertEquals(123_457, predicate.parallelIsSortedUntil(list.toArray(new Integer[0])));
+        assertEquals(123_457, predicate.parallelIsSortedUntil(new LinkedList<>(list)));
+    }
+
+    @Test
+    void shouldFindViolationOnChunkBoundaryInParallel() {
+        IsSortedPredicate<Integer> predicate = new IsSortedPredicate<>(Comparator.reverseOrder());
+        for (int size = 2; size < 100_000; size = size * 3 + 1) {
+            for (int violation = 1; violation < size; violation = violation * 2 + 1) {
+                Integer[] array = new Integer[size];
+                for (int i = 0; i < size; ++i) {
+                    array[i] = i < violation ? size - i : size + 1;
+                }
+
+                assertEquals(violation, predicate.parallelIsSortedUntil(array));
+            }
+        }
+    }
+
+    @Test
+    void shouldCheckIntArrays() {
+        assertTrue(IsSortedPredicate.isSorted(new int[0]));
+        assertTrue(IsSortedPredicate.isSorted(new int[]{Integer.MIN_VALUE, -1, 0, 0, 1, 2, 3, 4, 5, Integer.MAX_VALUE}));
+        for (int i = 1; i < 10; ++i) {
+            int[] array = IntStream.range(0, 10).toArray();
+            array[i] = -1;
+            assertEquals(i, IsSortedPredicate.isSortedUntil(array));
+        }
+    }
+
+    @Test
+    void shouldCheckLongArrays() {
+        assertTrue(IsSortedPredicate.isSorted(new long[]{Long.MIN_VALUE, -1, 0, 0, 1, 2, 3, Long.MAX_VALUE}));
+        assertEquals(6, IsSortedPredicate.isSortedUntil(new long[]{0, 1, 2, 3, 4, 5, 1, 7}));
+    }
+
+    @Test
+    void shouldCheckDoubleArraysInTotalOrder() {
+        assertTrue(IsSortedPredicate.isSorted(new double[]{Double.NEGATIVE_INFINITY, -1.5, -0.0, 0.0, 0.0, 1.5,
+                Double.POSITIVE_INFINITY, Double.NaN, Double.NaN}));
+        assertEquals(5, IsSortedPredicate.isSortedUntil(new double[]{-2.0, -1.0, 0.0, 1.0, 2.0, -0.0}));
+        assertEquals(2, IsSortedPredicate.isSortedUntil(new double[]{-2.0, 0.0, -0.0, 1.0, 2.0, 3.0}));
+        assertEquals(1, IsSortedPredicate.isSortedUntil(new double[]{Double.NaN, 0.0}));
+        assertEquals(0, IsSortedPredicate.isSortedUntil(new double[0]));
+    }
+
+    @Test
+    void shouldCheckByteArraysAsUnsigned() {
+        assertTrue(IsSortedPredicate.isSorted(new byte[]{0, 1, 2, 3, 127, (byte) 128, (byte) 200, (byte) 255}));
+        assertEquals(4, IsSortedPredicate.isSortedUntil(new byte[]{0, 1, 2, (byte) 255, 127, (byte) 128}));
+    }
+
     @Test
     void shouldTreatDefaultConstructedObjectsAsEqual() {
         Predicate<Iterable<Number>> one = new IsSortedPredicate<>();
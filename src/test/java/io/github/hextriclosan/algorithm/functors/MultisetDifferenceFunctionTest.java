@@ -0,0 +1,62 @@
+package io.github.hextriclosan.algorithm.functors;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultisetDifferenceFunctionTest {
+    private static final BiFunction<Iterable<Character>, Iterable<Character>, Map<Character, Integer>> difference =
+            new MultisetDifferenceFunction<>();
+
+    @Test
+    void shouldReturnEmptyMapForEmptyIterables() {
+        assertTrue(difference.apply(Collections.emptyList(), Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    void shouldReturnEmptyMapWhenOneIterableIsPermutationOfAnother() {
+        assertTrue(difference.apply(Arrays.asList('A', 'B', 'B'), Arrays.asList('B', 'A', 'B')).isEmpty());
+    }
+
+    @Test
+    void shouldReturnSurplusAndDeficitCounts() {
+        Map<Character, Integer> expected = new LinkedHashMap<>();
+        expected.put('A', 2);
+        expected.put('C', 1);
+        expected.put('D', -3);
+
+        Map<Character, Integer> actual = difference.apply(
+                Arrays.asList('A', 'B', 'A', 'C', 'A', 'B'),
+                Arrays.asList('D', 'B', 'D', 'A', 'B', 'D'));
+
+        assertEquals(expected, actual);
+        assertEquals(List.copyOf(expected.keySet()), List.copyOf(actual.keySet()));
+    }
+
+    @Test
+    void shouldCountNullElements() {
+        assertEquals(Collections.singletonMap(null, -1), difference.apply(
+                Collections.singletonList('A'), Arrays.asList('A', null)));
+    }
+
+    @Test
+    void shouldThrowNullPointerExceptionWhenIterableIsNull() {
+        assertThrows(NullPointerException.class, () -> difference.apply(null, Collections.emptyList()));
+    }
+
+    @Test
+    void shouldTreatObjectsAsEqual() {
+        assertEquals(new MultisetDifferenceFunction<Short>(), new MultisetDifferenceFunction<Short>());
+        assertEquals(new MultisetDifferenceFunction<Short>().hashCode(), new MultisetDifferenceFunction<Short>().hashCode());
+    }
+
+}
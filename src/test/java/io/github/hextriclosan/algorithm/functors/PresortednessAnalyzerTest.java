@@ -0,0 +1,101 @@
+package io.github.hextriclosan.algorithm.functors;
+
+import io.github.hextriclosan.algorithm.functors.PresortednessAnalyzer.Presortedness;
+import io.github.hextriclosan.algorithm.helpers.CustomComparator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PresortednessAnalyzerTest {
+
+    private static final Function<List<Character>, Presortedness> naturalOrderAnalyzer = new PresortednessAnalyzer<>();
+
+    @Test
+    void shouldMeasureEmptyList() {
+        assertEquals(new Presortedness(0, 0, 0, 0, 0), naturalOrderAnalyzer.apply(emptyList()));
+    }
+
+    @Test
+    void shouldMeasureSortedList() {
+        Presortedness presortedness = naturalOrderAnalyzer.apply(Arrays.asList('A', 'B', 'B', 'C'));
+
+        assertTrue(presortedness.isSorted());
+        assertEquals(new Presortedness(4, 0, 1, 0, 4), presortedness);
+    }
+
+    @Test
+    void shouldMeasureReversedList() {
+        assertEquals(new Presortedness(4, 6, 4, 3, 1), naturalOrderAnalyzer.apply(Arrays.asList('D', 'C', 'B', 'A')));
+    }
+
+    @Test
+    void shouldNotCountEqualElementsAsInversions() {
+        Presortedness presortedness = naturalOrderAnalyzer.apply(new LinkedList<>(Arrays.asList('B', 'A', 'B', 'A')));
+
+        assertFalse(presortedness.isSorted());
+        assertEquals(new Presortedness(4, 3, 3, 2, 1), presortedness);
+    }
+
+    @Test
+    void shouldUseComparatorIfProvided() {
+        PresortednessAnalyzer<Character> analyzer = new PresortednessAnalyzer<>(Comparator.reverseOrder());
+
+        assertEquals(new Presortedness(3, 0, 1, 0, 3), analyzer.apply(new Character[]{'C', 'B', 'A'}));
+    }
+
+    @Test
+    void shouldMatchQuadraticCountForLargeArrays() {
+        Random random = new Random(0);
+        int[] ints = random.ints(20_000, 0, 1000).toArray();
+        long[] longs = Arrays.stream(ints).asLongStream().toArray();
+        double[] doubles = Arrays.stream(ints).asDoubleStream().toArray();
+        Integer[] boxed = Arrays.stream(ints).boxed().toArray(Integer[]::new);
+
+        long inversions = 0;
+        int runs = 1;
+        for (int i = 0; i < ints.length; ++i) {
+            for (int j = i + 1; j < ints.length; ++j) {
+                if (ints[i] > ints[j]) {
+                    ++inversions;
+                }
+            }
+            if (i > 0 && ints[i - 1] > ints[i]) {
+                ++runs;
+            }
+        }
+
+        Presortedness presortedness = PresortednessAnalyzer.analyze(ints);
+        assertEquals(inversions, presortedness.inversions());
+        assertEquals(runs, presortedness.runs());
+        assertEquals(presortedness, PresortednessAnalyzer.analyze(longs));
+        assertEquals(presortedness, PresortednessAnalyzer.analyze(doubles));
+        assertEquals(presortedness, new PresortednessAnalyzer<Integer>().apply(boxed));
+    }
+
+    @Test
+    void shouldMeasureMaxDisplacement() {
+        assertEquals(5, PresortednessAnalyzer.analyze(new int[]{1, 2, 3, 4, 5, 0}).maxDisplacement());
+        assertEquals(1, PresortednessAnalyzer.analyze(new int[]{2, 1, 4, 3, 6, 5}).maxDisplacement());
+    }
+
+    @Test
+    void shouldTreatObjectsWithEqualComparatorsAsEqual() {
+        PresortednessAnalyzer<Number> one = new PresortednessAnalyzer<>(new CustomComparator<>(42));
+        PresortednessAnalyzer<Number> another = new PresortednessAnalyzer<>(new CustomComparator<>(42));
+
+        assertEquals(one, another);
+        assertEquals(one.hashCode(), another.hashCode());
+        assertEquals(new PresortednessAnalyzer<Number>(), new PresortednessAnalyzer<Number>());
+    }
+
+}
@@ -0,0 +1,109 @@
+package io.github.hextriclosan.algorithm.functors;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortednessMonitorTest {
+
+    @Test
+    void shouldReportNoStatisticsWhenNothingAccepted() {
+        SortednessMonitor<Character> monitor = new SortednessMonitor<>((position, previous, current) -> {
+        });
+
+        assertTrue(monitor.isSorted());
+        assertEquals(0, monitor.count());
+        assertEquals(0, monitor.runs());
+        assertEquals(0, monitor.longestRun());
+    }
+
+    @Test
+    void shouldReportViolationsWithPositions() {
+        List<String> violations = new ArrayList<>();
+        SortednessMonitor<Character> monitor = new SortednessMonitor<>(
+                (position, previous, current) -> violations.add(position + ":" + previous + ">" + current));
+
+        Arrays.asList('A', 'B', 'B', 'A', 'C', 'D', 'E', 'B').forEach(monitor);
+
+        assertEquals(Arrays.asList("3:B>A", "7:E>B"), violations);
+        assertFalse(monitor.isSorted());
+        assertEquals(8, monitor.count());
+        assertEquals(2, monitor.violations());
+        assertEquals(3, monitor.runs());
+        assertEquals(4, monitor.longestRun());
+    }
+
+    @Test
+    void shouldUseComparatorIfProvided() {
+        SortednessMonitor<Character> monitor = new SortednessMonitor<>(Comparator.reverseOrder(),
+                (position, previous, current) -> {
+                });
+
+        Arrays.asList('C', 'B', 'A').forEach(monitor);
+
+        assertTrue(monitor.isSorted());
+        assertEquals(1, monitor.runs());
+        assertEquals(3, monitor.longestRun());
+    }
+
+    @Test
+    void shouldRequestUnboundedNumberOfElementsAsSubscriber() {
+        List<Long> positions = new ArrayList<>();
+        SortednessMonitor<Integer> monitor = new SortednessMonitor<>(
+                (position, previous, current) -> positions.add(position));
+        AtomicLong requested = new AtomicLong();
+
+        monitor.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                requested.addAndGet(n);
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        for (int i = 0; i < 100; ++i) {
+            monitor.onNext(i % 10);
+        }
+        monitor.onComplete();
+
+        assertEquals(Long.MAX_VALUE, requested.get());
+        assertEquals(100, monitor.count());
+        assertEquals(10, monitor.runs());
+        assertEquals(10, monitor.longestRun());
+        assertEquals(Arrays.asList(10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L, 90L), positions);
+        assertTrue(monitor.isCompleted());
+        assertNull(monitor.error());
+    }
+
+    @Test
+    void shouldRecordErrorTerminatingSubscription() {
+        SortednessMonitor<Integer> monitor = new SortednessMonitor<>((position, previous, current) -> {
+        });
+        IllegalStateException failure = new IllegalStateException("upstream failed");
+
+        monitor.onNext(1);
+        monitor.onNext(2);
+        monitor.onError(failure);
+
+        assertSame(failure, monitor.error());
+        assertFalse(monitor.isCompleted());
+        assertTrue(monitor.isSorted());
+        assertEquals(2, monitor.count());
+        assertThrows(NullPointerException.class, () -> monitor.onError(null));
+    }
+
+}
@@ -0,0 +1,179 @@
+package io.github.hextriclosan.algorithm.iterators;
+
+import io.github.hextriclosan.algorithm.helpers.NonComparableObject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CombinationIteratorTest {
+
+    @Test
+    void shouldReturnOneEmptyResultForZeroLength() {
+        Iterator<List<Character>> iterator = new CombinationIterator<>(Arrays.asList('A', 'B'), 0);
+
+        assertTrue(iterator.hasNext());
+        assertEquals(emptyList(), iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void shouldGenerateSortedCombinationsInLexicographicalOrder() {
+        Iterator<List<Character>> iterator = new CombinationIterator<>(Arrays.asList('D', 'A', 'C', 'B'), 2);
+
+        assertEquals(Arrays.asList(
+                Arrays.asList('A', 'B'),
+                Arrays.asList('A', 'C'),
+                Arrays.asList('A', 'D'),
+                Arrays.asList('B', 'C'),
+                Arrays.asList('B', 'D'),
+                Arrays.asList('C', 'D')), drain(iterator));
+    }
+
+    @Test
+    void shouldGenerateSameCombinationsAsSortedSubsets() {
+        List<Integer> input = Arrays.asList(2, 1, 3, 1, 2, 2, 4);
+        for (int k = 0; k <= input.size(); ++k) {
+            assertEquals(sortedSubsets(input, k, Comparator.reverseOrder()),
+                    drain(new CombinationIterator<>(input, k, Comparator.reverseOrder())));
+            assertEquals(sortedSubsets(input, k, Comparator.naturalOrder()),
+                    drain(new CombinationIterator<>(input, k)));
+        }
+    }
+
+    @Test
+    void shouldVisitAllCombinationsInPlace() {
+        CombinationIterator<Character> iterator = new CombinationIterator<>(Arrays.asList('B', 'A', 'B'), 2);
+
+        List<List<Character>> combinations = new ArrayList<>();
+        iterator.forEachRemainingInPlace(combination -> combinations.add(new ArrayList<>(combination)));
+
+        assertEquals(Arrays.asList(
+                Arrays.asList('A', 'B'),
+                Arrays.asList('B', 'B')), combinations);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void shouldRankAndSeekMultisetCombinations() {
+        List<Integer> input = Arrays.asList(1, 1, 2, 3, 3, 3, 4);
+        for (int k = 0; k <= input.size(); ++k) {
+            List<List<Integer>> expected = drain(new CombinationIterator<>(input, k));
+            CombinationIterator<Integer> iterator = new CombinationIterator<>(input, k);
+
+            assertEquals(BigInteger.valueOf(expected.size()), iterator.combinationCount());
+            for (int rank = 0; rank < expected.size(); ++rank) {
+                iterator.seek(BigInteger.valueOf(rank));
+                assertEquals(BigInteger.valueOf(rank), iterator.rank());
+                assertEquals(expected.get(rank), iterator.next());
+                assertEquals(BigInteger.valueOf(rank + 1), iterator.rank());
+            }
+            assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Test
+    void shouldCountCombinationsOfDistinctElements() {
+        List<Integer> input = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            input.add(i);
+        }
+        CombinationIterator<Integer> iterator = new CombinationIterator<>(input, 50);
+
+        BigInteger count = BigInteger.ONE;
+        for (int i = 1; i <= 50; ++i) {
+            count = count.multiply(BigInteger.valueOf(50 + i)).divide(BigInteger.valueOf(i));
+        }
+        assertEquals(count, iterator.combinationCount());
+
+        iterator.seek(count.subtract(BigInteger.ONE));
+        assertEquals(input.subList(50, 100), iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(count, iterator.rank());
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionForInvalidArguments() {
+        List<Integer> input = Arrays.asList(1, 2);
+        assertThrows(IllegalArgumentException.class, () -> new CombinationIterator<>(input, 3));
+        assertThrows(IllegalArgumentException.class, () -> new CombinationIterator<>(input, -1));
+
+        CombinationIterator<Integer> iterator = new CombinationIterator<>(input, 1);
+        assertThrows(IllegalArgumentException.class, () -> iterator.seek(BigInteger.valueOf(3)));
+        assertThrows(IllegalArgumentException.class, () -> iterator.seek(BigInteger.valueOf(-1)));
+    }
+
+    @Test
+    void shouldThrowWhenObjectIsNonComparable() {
+        List<NonComparableObject<Character>> input = Arrays.asList(
+                new NonComparableObject<>('A'),
+                new NonComparableObject<>('B'));
+
+        assertThrows(ClassCastException.class, () -> new CombinationIterator<>(input, 1));
+    }
+
+    @Test
+    void shouldThrowWhenNoMoreCombinationsLeft() {
+        Iterator<List<Character>> iterator = new CombinationIterator<>(Collections.singletonList('A'), 1);
+
+        assertEquals(Collections.singletonList('A'), iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void shouldThrowWhenRemoveIsCalled() {
+        Iterator<List<Character>> iterator = new CombinationIterator<>(Arrays.asList('A', 'B', 'C'), 2);
+
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    /**
+     * Returns distinct sorted subsets of given size in lexicographical order, by brute force over bit masks.
+     */
+    private static <E> List<List<E>> sortedSubsets(List<E> input, int k, Comparator<? super E> comparator) {
+        Comparator<List<E>> lexicographical = (a, b) -> {
+            for (int i = 0; i < k; ++i) {
+                int result = comparator.compare(a.get(i), b.get(i));
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        };
+        TreeSet<List<E>> result = new TreeSet<>(lexicographical);
+        for (int mask = 0; mask < 1 << input.size(); ++mask) {
+            if (Integer.bitCount(mask) == k) {
+                List<E> subset = new ArrayList<>();
+                for (int i = 0; i < input.size(); ++i) {
+                    if ((mask & 1 << i) != 0) {
+                        subset.add(input.get(i));
+                    }
+                }
+                subset.sort(comparator);
+                result.add(subset);
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    private static <E> List<List<E>> drain(Iterator<List<E>> iterator) {
+        List<List<E>> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+}
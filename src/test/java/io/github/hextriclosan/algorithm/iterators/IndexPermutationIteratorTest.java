@@ -0,0 +1,210 @@
+package io.github.hextriclosan.algorithm.iterators;
+
+import io.github.hextriclosan.algorithm.helpers.CustomComparator;
+import io.github.hextriclosan.algorithm.helpers.NonComparableObject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexPermutationIteratorTest {
+
+    @Test
+    void shouldReturnOneEmptyResultForEmptyList() {
+        Iterator<List<Character>> permutationIterator = new IndexPermutationIterator<>(emptyList());
+
+        assertTrue(permutationIterator.hasNext());
+        assertEquals(emptyList(), permutationIterator.next());
+        assertFalse(permutationIterator.hasNext());
+    }
+
+    @Test
+    void shouldGenerateSamePermutationsAsNextPermutationIterator() {
+        List<Integer> input = Arrays.asList(2, 1, 3, 1, 2);
+
+        assertEquals(drain(new NextPermutationIterator<>(input, Comparator.reverseOrder())),
+                drain(new IndexPermutationIterator<>(input, Comparator.reverseOrder())));
+        assertEquals(drain(new NextPermutationIterator<>(input)), drain(new IndexPermutationIterator<>(input)));
+    }
+
+    @Test
+    void shouldVisitAllPermutationsInPlace() {
+        IndexPermutationIterator<Character> permutationIterator =
+                new IndexPermutationIterator<>(Arrays.asList('A', 'B', 'B'));
+
+        List<List<Character>> permutations = new ArrayList<>();
+        permutationIterator.forEachRemainingInPlace(permutation -> permutations.add(new ArrayList<>(permutation)));
+
+        assertEquals(Arrays.asList(
+                Arrays.asList('A', 'B', 'B'),
+                Arrays.asList('B', 'A', 'B'),
+                Arrays.asList('B', 'B', 'A')), permutations);
+        assertFalse(permutationIterator.hasNext());
+    }
+
+    @Test
+    void shouldReturnUnmodifiablePermutations() {
+        List<Character> permutation = new IndexPermutationIterator<>(Arrays.asList('A', 'B')).next();
+
+        assertThrows(UnsupportedOperationException.class, () -> permutation.set(0, 'B'));
+    }
+
+    @Test
+    void shouldRearrangeArrayIntoNextPermutation() {
+        int[] array = {1, 3, 2};
+        assertTrue(IndexPermutationIterator.nextPermutation(array));
+        assertArrayEquals(new int[]{2, 1, 3}, array);
+
+        int[] last = {3, 2, 2};
+        assertFalse(IndexPermutationIterator.nextPermutation(last));
+        assertArrayEquals(new int[]{2, 2, 3}, last);
+    }
+
+    @Test
+    void shouldRankAndSeekMultisetPermutations() {
+        List<Integer> input = Arrays.asList(1, 1, 2, 3, 3, 3);
+        List<List<Integer>> expected = drain(new IndexPermutationIterator<>(input));
+        IndexPermutationIterator<Integer> permutationIterator = new IndexPermutationIterator<>(input);
+
+        assertEquals(BigInteger.valueOf(expected.size()), permutationIterator.permutationCount());
+        assertEquals(BigInteger.valueOf(60), permutationIterator.permutationCount());
+        for (int rank = 0; rank < expected.size(); ++rank) {
+            permutationIterator.seek(BigInteger.valueOf(rank));
+            assertEquals(BigInteger.valueOf(rank), permutationIterator.rank());
+            assertEquals(expected.size() - rank, permutationIterator.estimateSize());
+            assertEquals(expected.get(rank), permutationIterator.next());
+        }
+        assertFalse(permutationIterator.hasNext());
+        assertEquals(permutationIterator.permutationCount(), permutationIterator.rank());
+        assertEquals(0, permutationIterator.estimateSize());
+    }
+
+    @Test
+    void shouldStartFromRankOfInputArrangement() {
+        IndexPermutationIterator<Character> permutationIterator =
+                new IndexPermutationIterator<>(Arrays.asList('B', 'A', 'C'));
+
+        assertEquals(BigInteger.valueOf(2), permutationIterator.rank());
+        assertEquals(4, permutationIterator.estimateSize());
+
+        permutationIterator.skip(2);
+        assertEquals(Arrays.asList('C', 'A', 'B'), permutationIterator.next());
+
+        permutationIterator.skip(10);
+        assertFalse(permutationIterator.hasNext());
+    }
+
+    @Test
+    void shouldRankAndUnrankBeyondLongRange() {
+        List<Integer> input = new ArrayList<>();
+        for (int i = 0; i < 30; ++i) {
+            input.add(i % 25);
+        }
+        IndexPermutationIterator<Integer> permutationIterator = new IndexPermutationIterator<>(input);
+        BigInteger count = factorial(30).shiftRight(5);
+        assertEquals(count, permutationIterator.permutationCount());
+        assertEquals(Long.MAX_VALUE, permutationIterator.estimateSize());
+
+        BigInteger rank = count.divide(BigInteger.valueOf(3));
+        permutationIterator.seek(rank);
+        List<Integer> permutation = permutationIterator.next();
+        assertEquals(rank.add(BigInteger.ONE), permutationIterator.rank());
+
+        permutationIterator.seek(count.subtract(BigInteger.ONE));
+        List<Integer> last = new ArrayList<>(input);
+        last.sort(Comparator.reverseOrder());
+        assertEquals(last, permutationIterator.next());
+        assertFalse(permutationIterator.hasNext());
+
+        IndexPermutationIterator<Integer> resumed = new IndexPermutationIterator<>(permutation);
+        assertEquals(rank, resumed.rank());
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionForRankOutOfRange() {
+        IndexPermutationIterator<Integer> permutationIterator = new IndexPermutationIterator<>(Arrays.asList(1, 2));
+
+        assertThrows(IllegalArgumentException.class, () -> permutationIterator.seek(BigInteger.valueOf(3)));
+        assertThrows(IllegalArgumentException.class, () -> permutationIterator.seek(BigInteger.valueOf(-1)));
+        assertThrows(IllegalArgumentException.class, () -> permutationIterator.skip(-1));
+    }
+
+    @Test
+    void shouldThrowWhenObjectIsNonComparable() {
+        List<NonComparableObject<Character>> input = Arrays.asList(
+                new NonComparableObject<>('A'),
+                new NonComparableObject<>('B'));
+
+        assertThrows(ClassCastException.class, () -> new IndexPermutationIterator<>(input));
+    }
+
+    @Test
+    void shouldThrowWhenNoMorePermutationsLeft() {
+        Iterator<List<Character>> permutationIterator = new IndexPermutationIterator<>(Collections.singletonList('A'));
+
+        assertEquals(Collections.singletonList('A'), permutationIterator.next());
+        assertFalse(permutationIterator.hasNext());
+        assertThrows(NoSuchElementException.class, permutationIterator::next);
+    }
+
+    @Test
+    void shouldThrowWhenRemoveIsCalled() {
+        Iterator<List<Character>> permutationIterator = new IndexPermutationIterator<>(Arrays.asList('A', 'B', 'C'));
+
+        assertThrows(UnsupportedOperationException.class, permutationIterator::remove);
+    }
+
+    @Test
+    void shouldTreatObjectsWithEqualPendingPermutationsAsEqual() {
+        Iterator<List<Character>> one = new IndexPermutationIterator<>(Arrays.asList('A', 'B', 'C'));
+        Iterator<List<Character>> another = new IndexPermutationIterator<>(Arrays.asList('A', 'C', 'B'));
+        assertNotEquals(one, another);
+
+        one.next();
+        assertEquals(one, another);
+        assertEquals(one.hashCode(), another.hashCode());
+
+        one.forEachRemaining(permutation -> { });
+        another.forEachRemaining(permutation -> { });
+        assertEquals(one, another);
+    }
+
+    @Test
+    void shouldTreatObjectsWithEqualCollectionsAndComparatorsAsEqual() {
+        Iterator<List<Short>> one = new IndexPermutationIterator<>(emptyList(), new CustomComparator<>(42));
+        Iterator<List<Short>> another = new IndexPermutationIterator<>(emptyList(), new CustomComparator<>(42));
+
+        assertEquals(one, another);
+        assertEquals(one.hashCode(), another.hashCode());
+        assertNotEquals(new IndexPermutationIterator<>(emptyList(), new CustomComparator<>(43)), one);
+    }
+
+    private static BigInteger factorial(int n) {
+        BigInteger result = BigInteger.ONE;
+        for (int i = 2; i <= n; ++i) {
+            result = result.multiply(BigInteger.valueOf(i));
+        }
+        return result;
+    }
+
+    private static <E> List<List<E>> drain(Iterator<List<E>> iterator) {
+        List<List<E>> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+}
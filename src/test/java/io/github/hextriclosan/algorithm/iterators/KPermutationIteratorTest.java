@@ -0,0 +1,161 @@
+package io.github.hextriclosan.algorithm.iterators;
+
+import io.github.hextriclosan.algorithm.helpers.NonComparableObject;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KPermutationIteratorTest {
+
+    @Test
+    void shouldReturnOneEmptyResultForZeroLength() {
+        Iterator<List<Character>> iterator = new KPermutationIterator<>(Arrays.asList('A', 'B'), 0);
+
+        assertTrue(iterator.hasNext());
+        assertEquals(emptyList(), iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void shouldGenerateDistinctSelectionsInLexicographicalOrder() {
+        Iterator<List<Character>> iterator = new KPermutationIterator<>(Arrays.asList('C', 'A', 'B'), 2);
+
+        assertEquals(Arrays.asList(
+                Arrays.asList('A', 'B'),
+                Arrays.asList('A', 'C'),
+                Arrays.asList('B', 'A'),
+                Arrays.asList('B', 'C'),
+                Arrays.asList('C', 'A'),
+                Arrays.asList('C', 'B')), drain(iterator));
+    }
+
+    @Test
+    void shouldGenerateSameSelectionsAsProjectedPermutations() {
+        List<Integer> input = Arrays.asList(2, 1, 3, 1, 2, 2);
+        for (int k = 0; k <= input.size(); ++k) {
+            assertEquals(projectPermutations(input, k, Comparator.reverseOrder()),
+                    drain(new KPermutationIterator<>(input, k, Comparator.reverseOrder())));
+            assertEquals(projectPermutations(input, k, Comparator.naturalOrder()),
+                    drain(new KPermutationIterator<>(input, k)));
+        }
+    }
+
+    @Test
+    void shouldVisitAllSelectionsInPlace() {
+        KPermutationIterator<Character> iterator = new KPermutationIterator<>(Arrays.asList('A', 'B', 'B'), 2);
+
+        List<List<Character>> selections = new ArrayList<>();
+        iterator.forEachRemainingInPlace(selection -> selections.add(new ArrayList<>(selection)));
+
+        assertEquals(Arrays.asList(
+                Arrays.asList('A', 'B'),
+                Arrays.asList('B', 'A'),
+                Arrays.asList('B', 'B')), selections);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void shouldRankAndSeekMultisetSelections() {
+        List<Integer> input = Arrays.asList(1, 1, 2, 3, 3, 3);
+        for (int k = 0; k <= input.size(); ++k) {
+            List<List<Integer>> expected = drain(new KPermutationIterator<>(input, k));
+            KPermutationIterator<Integer> iterator = new KPermutationIterator<>(input, k);
+
+            assertEquals(BigInteger.valueOf(expected.size()), iterator.permutationCount());
+            for (int rank = 0; rank < expected.size(); ++rank) {
+                iterator.seek(BigInteger.valueOf(rank));
+                assertEquals(BigInteger.valueOf(rank), iterator.rank());
+                assertEquals(expected.get(rank), iterator.next());
+                assertEquals(BigInteger.valueOf(rank + 1), iterator.rank());
+            }
+            assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Test
+    void shouldCountSelectionsOfDistinctElements() {
+        List<Integer> input = new ArrayList<>();
+        for (int i = 0; i < 30; ++i) {
+            input.add(i);
+        }
+        KPermutationIterator<Integer> iterator = new KPermutationIterator<>(input, 15);
+
+        BigInteger count = BigInteger.ONE;
+        for (int i = 16; i <= 30; ++i) {
+            count = count.multiply(BigInteger.valueOf(i));
+        }
+        assertEquals(count, iterator.permutationCount());
+
+        iterator.seek(count.subtract(BigInteger.ONE));
+        assertEquals(Arrays.asList(29, 28, 27, 26, 25, 24, 23, 22, 21, 20, 19, 18, 17, 16, 15), iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(count, iterator.rank());
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionForInvalidArguments() {
+        List<Integer> input = Arrays.asList(1, 2);
+        assertThrows(IllegalArgumentException.class, () -> new KPermutationIterator<>(input, 3));
+        assertThrows(IllegalArgumentException.class, () -> new KPermutationIterator<>(input, -1));
+
+        KPermutationIterator<Integer> iterator = new KPermutationIterator<>(input, 1);
+        assertThrows(IllegalArgumentException.class, () -> iterator.seek(BigInteger.valueOf(3)));
+        assertThrows(IllegalArgumentException.class, () -> iterator.seek(BigInteger.valueOf(-1)));
+    }
+
+    @Test
+    void shouldThrowWhenObjectIsNonComparable() {
+        List<NonComparableObject<Character>> input = Arrays.asList(
+                new NonComparableObject<>('A'),
+                new NonComparableObject<>('B'));
+
+        assertThrows(ClassCastException.class, () -> new KPermutationIterator<>(input, 1));
+    }
+
+    @Test
+    void shouldThrowWhenNoMoreSelectionsLeft() {
+        Iterator<List<Character>> iterator = new KPermutationIterator<>(Collections.singletonList('A'), 1);
+
+        assertEquals(Collections.singletonList('A'), iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void shouldThrowWhenRemoveIsCalled() {
+        Iterator<List<Character>> iterator = new KPermutationIterator<>(Arrays.asList('A', 'B', 'C'), 2);
+
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    private static <E> List<List<E>> projectPermutations(List<E> input, int k, Comparator<? super E> comparator) {
+        Set<List<E>> result = new LinkedHashSet<>();
+        List<E> sorted = new ArrayList<>(input);
+        sorted.sort(comparator);
+        new NextPermutationIterator<>(sorted, comparator)
+                .forEachRemaining(permutation -> result.add(new ArrayList<>(permutation.subList(0, k))));
+        return new ArrayList<>(result);
+    }
+
+    private static <E> List<List<E>> drain(Iterator<List<E>> iterator) {
+        List<List<E>> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+}
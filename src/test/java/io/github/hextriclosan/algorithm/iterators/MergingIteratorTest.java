@@ -0,0 +1,100 @@
+package io.github.hextriclosan.algorithm.iterators;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MergingIteratorTest {
+
+    @Test
+    void shouldMergeSortedSources() {
+        Iterator<Integer> iterator = new MergingIterator<>(Arrays.asList(
+                Arrays.asList(1, 4, 7).iterator(),
+                Collections.<Integer>emptyIterator(),
+                Arrays.asList(2, 2, 8).iterator(),
+                Arrays.asList(0, 9).iterator()));
+
+        assertEquals(Arrays.asList(0, 1, 2, 2, 4, 7, 8, 9), drain(iterator));
+    }
+
+    @Test
+    void shouldMergeManySourcesWithCustomComparator() {
+        Random random = new Random(0);
+        List<Iterator<Integer>> sources = new ArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 37; ++i) {
+            List<Integer> source = new ArrayList<>();
+            int size = random.nextInt(100);
+            for (int j = 0; j < size; ++j) {
+                source.add(random.nextInt(1000));
+            }
+            source.sort(Comparator.reverseOrder());
+            expected.addAll(source);
+            sources.add(source.iterator());
+        }
+        expected.sort(Comparator.reverseOrder());
+
+        assertEquals(expected, drain(new MergingIterator<>(sources, Comparator.reverseOrder())));
+    }
+
+    @Test
+    void shouldKeepOrderOfSourcesForEqualElements() {
+        List<Map.Entry<Integer, String>> first = Arrays.asList(entry(1, "a"), entry(2, "a"));
+        List<Map.Entry<Integer, String>> second = Arrays.asList(entry(1, "b"), entry(2, "b"));
+        List<Map.Entry<Integer, String>> third = Arrays.asList(entry(1, "c"));
+
+        Iterator<Map.Entry<Integer, String>> iterator = new MergingIterator<>(
+                Arrays.asList(first.iterator(), second.iterator(), third.iterator()), Map.Entry.comparingByKey());
+
+        assertEquals(Arrays.asList(entry(1, "a"), entry(1, "b"), entry(1, "c"), entry(2, "a"), entry(2, "b")),
+                drain(iterator));
+    }
+
+    @Test
+    void shouldSkipDuplicatesWhenDistinct() {
+        Iterator<Integer> iterator = new MergingIterator<>(Arrays.asList(
+                Arrays.asList(1, 1, 3).iterator(),
+                Arrays.asList(1, 2, 3, 3).iterator()), null, true);
+
+        assertEquals(Arrays.asList(1, 2, 3), drain(iterator));
+    }
+
+    @Test
+    void shouldThrowNoSuchElementExceptionWhenExhausted() {
+        Iterator<Integer> iterator = new MergingIterator<>(Collections.emptyList());
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void shouldThrowUnsupportedOperationExceptionOnRemove() {
+        Iterator<Integer> iterator = new MergingIterator<>(Collections.singletonList(Arrays.asList(1).iterator()));
+
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    private static <K, V> Map.Entry<K, V> entry(K key, V value) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, value);
+    }
+
+    private static <E> List<E> drain(Iterator<E> iterator) {
+        List<E> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+}
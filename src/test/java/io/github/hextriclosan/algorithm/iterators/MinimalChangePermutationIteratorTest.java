@@ -0,0 +1,124 @@
+package io.github.hextriclosan.algorithm.iterators;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MinimalChangePermutationIteratorTest {
+
+    @Test
+    void shouldReturnOneEmptyResultForEmptyList() {
+        Iterator<List<Character>> permutationIterator = new MinimalChangePermutationIterator<>(emptyList());
+
+        assertTrue(permutationIterator.hasNext());
+        assertEquals(emptyList(), permutationIterator.next());
+        assertFalse(permutationIterator.hasNext());
+    }
+
+    @Test
+    void shouldGenerateAllPermutationsBySingleSwaps() {
+        List<int[]> swaps = new ArrayList<>();
+        Iterator<List<Integer>> permutationIterator = new MinimalChangePermutationIterator<>(
+                Arrays.asList(1, 2, 3, 4, 5), (i, j) -> swaps.add(new int[]{i, j}));
+
+        List<List<Integer>> permutations = new ArrayList<>();
+        permutationIterator.forEachRemaining(permutations::add);
+
+        assertEquals(120, permutations.size());
+        assertEquals(120, new HashSet<>(permutations).size());
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), permutations.get(0));
+        assertEquals(119, swaps.size());
+        for (int k = 1; k < permutations.size(); ++k) {
+            List<Integer> expected = new ArrayList<>(permutations.get(k - 1));
+            Collections.swap(expected, swaps.get(k - 1)[0], swaps.get(k - 1)[1]);
+            assertEquals(expected, permutations.get(k));
+        }
+    }
+
+    @Test
+    void shouldDifferByExactlyOneAdjacentTranspositionAtEveryStep() {
+        Iterator<List<Integer>> permutationIterator = new MinimalChangePermutationIterator<>(
+                Arrays.asList(0, 1, 2, 3, 4, 5, 6));
+
+        List<List<Integer>> permutations = new ArrayList<>();
+        permutationIterator.forEachRemaining(permutations::add);
+
+        assertEquals(5040, new HashSet<>(permutations).size());
+        for (int k = 1; k < permutations.size(); ++k) {
+            List<Integer> previous = permutations.get(k - 1);
+            List<Integer> current = permutations.get(k);
+            List<Integer> changed = new ArrayList<>();
+            for (int i = 0; i < current.size(); ++i) {
+                if (!previous.get(i).equals(current.get(i))) {
+                    changed.add(i);
+                }
+            }
+            assertEquals(2, changed.size());
+            assertEquals(changed.get(0) + 1, changed.get(1));
+            assertEquals(previous.get(changed.get(0)), current.get(changed.get(1)));
+            assertEquals(previous.get(changed.get(1)), current.get(changed.get(0)));
+        }
+    }
+
+    @Test
+    void shouldGeneratePlainChanges() {
+        List<String> swaps = new ArrayList<>();
+        Iterator<List<Character>> permutationIterator = new MinimalChangePermutationIterator<>(
+                Arrays.asList('A', 'B', 'C'), (i, j) -> swaps.add(i + "" + j));
+
+        List<List<Character>> permutations = new ArrayList<>();
+        permutationIterator.forEachRemaining(permutations::add);
+
+        assertEquals(Arrays.asList(
+                Arrays.asList('A', 'B', 'C'), Arrays.asList('A', 'C', 'B'), Arrays.asList('C', 'A', 'B'),
+                Arrays.asList('C', 'B', 'A'), Arrays.asList('B', 'C', 'A'), Arrays.asList('B', 'A', 'C')),
+                permutations);
+        assertEquals(Arrays.asList("12", "01", "12", "01", "12"), swaps);
+    }
+
+    @Test
+    void shouldNotifyListenerBeforeVisitingPermutationInPlace() {
+        List<Character> state = new ArrayList<>(Arrays.asList('A', 'B', 'C'));
+        MinimalChangePermutationIterator<Character> permutationIterator = new MinimalChangePermutationIterator<>(
+                Arrays.asList('A', 'B', 'C'), (i, j) -> Collections.swap(state, i, j));
+
+        List<List<Character>> permutations = new ArrayList<>();
+        permutationIterator.forEachRemainingInPlace(permutation -> {
+            assertEquals(state, permutation);
+            permutations.add(new ArrayList<>(permutation));
+        });
+
+        assertEquals(6, new HashSet<>(permutations).size());
+    }
+
+    @Test
+    void shouldThrowWhenNoMorePermutationsLeft() {
+        Iterator<List<Character>> permutationIterator = new MinimalChangePermutationIterator<>(Arrays.asList('A', 'B'));
+
+        assertEquals(Arrays.asList('A', 'B'), permutationIterator.next());
+        assertEquals(Arrays.asList('B', 'A'), permutationIterator.next());
+        assertFalse(permutationIterator.hasNext());
+        assertThrows(NoSuchElementException.class, permutationIterator::next);
+    }
+
+    @Test
+    void shouldThrowWhenRemoveIsCalled() {
+        Iterator<List<Character>> permutationIterator =
+                new MinimalChangePermutationIterator<>(Arrays.asList('A', 'B', 'C'));
+
+        assertThrows(UnsupportedOperationException.class, permutationIterator::remove);
+    }
+
+}
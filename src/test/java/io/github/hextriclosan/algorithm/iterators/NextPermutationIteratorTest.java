@@ -4,11 +4,16 @@ import io.github.hextriclosan.algorithm.helpers.CustomComparator;
 import io.github.hextriclosan.algorithm.helpers.NonComparableObject;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -142,6 +147,108 @@ class NextPermutationIteratorTest {
                 Arrays.asList('C', 'B', 'A')), allPermutations);
     }
 
+    @Test
+    void shouldVisitAllPermutationsInPlace() {
+        NextPermutationIterator<Character> permutationIterator =
+                new NextPermutationIterator<>(Arrays.asList('A', 'B', 'B'));
+        assertEquals(Arrays.asList('A', 'B', 'B'), permutationIterator.next());
+
+        List<List<Character>> permutations = new ArrayList<>();
+        Set<List<Character>> views = Collections.newSetFromMap(new IdentityHashMap<>());
+        permutationIterator.forEachRemainingInPlace(permutation -> {
+            permutations.add(new ArrayList<>(permutation));
+            views.add(permutation);
+            assertThrows(UnsupportedOperationException.class, () -> permutation.set(0, 'C'));
+        });
+
+        assertEquals(Arrays.asList(Arrays.asList('B', 'A', 'B'), Arrays.asList('B', 'B', 'A')), permutations);
+        assertEquals(1, views.size());
+        assertFalse(permutationIterator.hasNext());
+    }
+
+    @Test
+    void shouldRearrangeListIntoNextPermutation() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(1, 3, 2));
+
+        assertTrue(NextPermutationIterator.nextPermutation(list, null));
+        assertEquals(Arrays.asList(2, 1, 3), list);
+
+        List<Integer> last = new LinkedList<>(Arrays.asList(3, 2, 1));
+        assertFalse(NextPermutationIterator.nextPermutation(last, null));
+        assertEquals(Arrays.asList(1, 2, 3), last);
+
+        List<Integer> reversed = new ArrayList<>(Arrays.asList(3, 1, 2));
+        assertTrue(NextPermutationIterator.nextPermutation(reversed, Comparator.reverseOrder()));
+        assertEquals(Arrays.asList(2, 3, 1), reversed);
+    }
+
+    @Test
+    void shouldSkipPermutationsSharingPrefix() {
+        NextPermutationIterator<Integer> permutationIterator = new NextPermutationIterator<>(Arrays.asList(1, 2, 3, 4));
+
+        assertEquals(Arrays.asList(1, 2, 3, 4), permutationIterator.next());
+        permutationIterator.skipPrefix(2);
+        assertEquals(Arrays.asList(1, 3, 2, 4), permutationIterator.next());
+        permutationIterator.skipPrefix(1);
+        assertEquals(Arrays.asList(2, 1, 3, 4), permutationIterator.next());
+        assertEquals(Arrays.asList(2, 1, 4, 3), permutationIterator.next());
+        permutationIterator.skipPrefix(2);
+        assertEquals(Arrays.asList(2, 3, 1, 4), permutationIterator.next());
+        permutationIterator.skipPrefix(0);
+        assertFalse(permutationIterator.hasNext());
+    }
+
+    @Test
+    void shouldSkipPermutationsSharingPrefixInPlace() {
+        NextPermutationIterator<Integer> permutationIterator =
+                new NextPermutationIterator<>(Arrays.asList(1, 1, 2, 3));
+
+        List<List<Integer>> permutations = new ArrayList<>();
+        permutationIterator.forEachRemainingInPlace(permutation -> {
+            permutations.add(new ArrayList<>(permutation));
+            if (permutation.get(0) == 1) {
+                permutationIterator.skipPrefix(2);
+            }
+        });
+
+        List<List<Integer>> expected = new ArrayList<>(Arrays.asList(
+                Arrays.asList(1, 1, 2, 3), Arrays.asList(1, 2, 1, 3), Arrays.asList(1, 3, 1, 2)));
+        new NextPermutationIterator<>(Arrays.asList(2, 1, 1, 3)).forEachRemaining(expected::add);
+        assertEquals(expected, permutations);
+    }
+
+    @Test
+    void shouldIgnoreSkippingPrefixAfterLastPermutation() {
+        NextPermutationIterator<Integer> permutationIterator = new NextPermutationIterator<>(Arrays.asList(1, 2));
+        permutationIterator.next();
+        permutationIterator.next();
+
+        permutationIterator.skipPrefix(1);
+        assertFalse(permutationIterator.hasNext());
+
+        NextPermutationIterator<Integer> emptyIterator = new NextPermutationIterator<>(Collections.emptyList());
+        emptyIterator.next();
+        emptyIterator.skipPrefix(0);
+        assertFalse(emptyIterator.hasNext());
+
+        NextPermutationIterator<Integer> inPlaceIterator = new NextPermutationIterator<>(Arrays.asList(2, 1));
+        List<List<Integer>> permutations = new ArrayList<>();
+        inPlaceIterator.forEachRemainingInPlace(permutation -> {
+            permutations.add(new ArrayList<>(permutation));
+            inPlaceIterator.skipPrefix(1);
+        });
+        assertEquals(Collections.singletonList(Arrays.asList(2, 1)), permutations);
+    }
+
+    @Test
+    void shouldThrowWhenSkippingPrefixBeforeFirstPermutation() {
+        NextPermutationIterator<Integer> permutationIterator = new NextPermutationIterator<>(Arrays.asList(1, 2));
+
+        assertThrows(IllegalStateException.class, () -> permutationIterator.skipPrefix(1));
+        permutationIterator.next();
+        assertThrows(IllegalArgumentException.class, () -> permutationIterator.skipPrefix(3));
+    }
+
     @Test
     void shouldThrowWhenObjectIsNonComparable() {
         Iterator<List<NonComparableObject<Character>>> permutationIterator = new NextPermutationIterator<>(
@@ -0,0 +1,109 @@
+package io.github.hextriclosan.algorithm.iterators;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PermutationSpliteratorTest {
+
+    @Test
+    void shouldStreamAllPermutationsInParallelInOrder() {
+        List<Integer> input = Arrays.asList(5, 3, 1, 4, 2, 1, 6, 7);
+        List<List<Integer>> sequential = PermutationSpliterator.stream(input, Comparator.reverseOrder(), false)
+                .collect(Collectors.toList());
+        List<List<Integer>> parallel = PermutationSpliterator.stream(input, Comparator.reverseOrder(), true)
+                .collect(Collectors.toList());
+
+        List<List<Integer>> all = new ArrayList<>();
+        IndexPermutationIterator<Integer> iterator = new IndexPermutationIterator<>(input, Comparator.reverseOrder());
+        iterator.seek(BigInteger.ZERO);
+        iterator.forEachRemaining(all::add);
+        assertEquals(20_160, all.size());
+        assertEquals(all, sequential);
+        assertEquals(all, parallel);
+    }
+
+    @Test
+    void shouldSplitRankRangeIntoHalves() {
+        Spliterator<List<Character>> suffix = new PermutationSpliterator<>(Arrays.asList('A', 'B', 'C'));
+        assertEquals(6, suffix.estimateSize());
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+
+        assertTrue(suffix.tryAdvance(permutation -> assertEquals(Arrays.asList('A', 'B', 'C'), permutation)));
+        Spliterator<List<Character>> prefix = suffix.trySplit();
+
+        assertEquals(2, prefix.estimateSize());
+        assertEquals(3, suffix.estimateSize());
+        List<List<Character>> permutations = new ArrayList<>();
+        prefix.forEachRemaining(permutations::add);
+        suffix.forEachRemaining(permutations::add);
+        assertEquals(Arrays.asList(
+                Arrays.asList('A', 'C', 'B'),
+                Arrays.asList('B', 'A', 'C'),
+                Arrays.asList('B', 'C', 'A'),
+                Arrays.asList('C', 'A', 'B'),
+                Arrays.asList('C', 'B', 'A')), permutations);
+        assertFalse(suffix.tryAdvance(permutation -> { }));
+        assertNull(suffix.trySplit());
+    }
+
+    @Test
+    void shouldPassSameViewInPlace() {
+        List<Character> input = Arrays.asList('C', 'A', 'B', 'A');
+        Spliterator<List<Character>> spliterator = new PermutationSpliterator<>(input, null, true);
+        assertFalse(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+        assertFalse(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+
+        Spliterator<List<Character>> prefix = spliterator.trySplit();
+        Set<List<Character>> views = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<List<Character>> permutations = new ArrayList<>();
+        prefix.forEachRemaining(permutation -> {
+            views.add(permutation);
+            permutations.add(new ArrayList<>(permutation));
+        });
+        spliterator.forEachRemaining(permutation -> {
+            views.add(permutation);
+            permutations.add(new ArrayList<>(permutation));
+        });
+
+        assertEquals(2, views.size());
+        assertEquals(PermutationSpliterator.stream(input, null, false).collect(Collectors.toList()), permutations);
+    }
+
+    @Test
+    void shouldReduceInPlacePermutationsInParallel() {
+        List<Integer> input = Arrays.asList(5, 3, 1, 4, 2, 1, 6, 7);
+        long expected = PermutationSpliterator.stream(input, null, false).mapToLong(this::weight).sum();
+
+        assertEquals(expected, PermutationSpliterator.streamInPlace(input, null, true).mapToLong(this::weight).sum());
+    }
+
+    @Test
+    void shouldReturnOneEmptyPermutationForEmptyCollection() {
+        assertEquals(Collections.singletonList(Collections.emptyList()),
+                PermutationSpliterator.stream(Collections.emptyList(), null, true).collect(Collectors.toList()));
+    }
+
+    private long weight(List<Integer> permutation) {
+        long result = 0;
+        for (int i = 0; i < permutation.size(); ++i) {
+            result += (long) i * permutation.get(i);
+        }
+        return result * result;
+    }
+
+}
@@ -3,6 +3,7 @@ package io.github.hextriclosan.algorithm.iterators;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -37,13 +38,13 @@ class SamplingIteratorTest {
         Iterator<List<Character>> samplingIterator = new SamplingIterator<>(LIST, 3, random);
 
         assertTrue(samplingIterator.hasNext());
-        assertEquals(Arrays.asList('A', 'D', 'H'), samplingIterator.next());
+        assertEquals(Arrays.asList('B', 'C', 'F'), samplingIterator.next());
 
         assertTrue(samplingIterator.hasNext());
-        assertEquals(Arrays.asList('B', 'E', 'G'), samplingIterator.next());
+        assertEquals(Arrays.asList('D', 'E', 'G'), samplingIterator.next());
 
         assertTrue(samplingIterator.hasNext());
-        assertEquals(Arrays.asList('C', 'F'), samplingIterator.next());
+        assertEquals(Arrays.asList('A', 'H'), samplingIterator.next());
 
         assertFalse(samplingIterator.hasNext());
     }
@@ -53,28 +54,28 @@ class SamplingIteratorTest {
         Iterator<List<Character>> samplingIterator = new SamplingIterator<>(LIST, 1, random);
 
         assertTrue(samplingIterator.hasNext());
-        assertEquals(Collections.singletonList('A'), samplingIterator.next());
+        assertEquals(Collections.singletonList('F'), samplingIterator.next());
 
         assertTrue(samplingIterator.hasNext());
-        assertEquals(Collections.singletonList('H'), samplingIterator.next());
+        assertEquals(Collections.singletonList('C'), samplingIterator.next());
 
         assertTrue(samplingIterator.hasNext());
-        assertEquals(Collections.singletonList('D'), samplingIterator.next());
+        assertEquals(Collections.singletonList('B'), samplingIterator.next());
 
         assertTrue(samplingIterator.hasNext());
-        assertEquals(Collections.singletonList('E'), samplingIterator.next());
+        assertEquals(Collections.singletonList('G'), samplingIterator.next());
 
         assertTrue(samplingIterator.hasNext());
-        assertEquals(Collections.singletonList('G'), samplingIterator.next());
+        assertEquals(Collections.singletonList('E'), samplingIterator.next());
 
         assertTrue(samplingIterator.hasNext());
-        assertEquals(Collections.singletonList('B'), samplingIterator.next());
+        assertEquals(Collections.singletonList('D'), samplingIterator.next());
 
         assertTrue(samplingIterator.hasNext());
-        assertEquals(Collections.singletonList('C'), samplingIterator.next());
+        assertEquals(Collections.singletonList('H'), samplingIterator.next());
 
         assertTrue(samplingIterator.hasNext());
-        assertEquals(Collections.singletonList('F'), samplingIterator.next());
+        assertEquals(Collections.singletonList('A'), samplingIterator.next());
 
         assertFalse(samplingIterator.hasNext());
     }
@@ -141,6 +142,27 @@ class SamplingIteratorTest {
         assertEquals(collectionSize, index.size());
     }
 
+    @Test
+    void shouldDrawOnlyPositionsOfFirstSampleFromHugeList() {
+        List<Integer> huge = new AbstractList<Integer>() {
+            @Override
+            public Integer get(int index) {
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return Integer.MAX_VALUE;
+            }
+        };
+        Iterator<List<Integer>> iterator = new SamplingIterator<>(huge, 3, random);
+
+        List<Integer> sample = iterator.next();
+        assertEquals(3, new HashSet<>(sample).size());
+        assertEquals(sample.stream().sorted().collect(toList()), sample);
+        assertTrue(iterator.hasNext());
+    }
+
     @Test
     void shouldTreatObjectsWithEqualListsAndSampleSizeAsEqual() {
         Iterator<List<Character>> one = new SamplingIterator<>(LIST, 3);
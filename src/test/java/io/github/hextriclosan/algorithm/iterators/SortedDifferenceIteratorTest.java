@@ -0,0 +1,92 @@
+package io.github.hextriclosan.algorithm.iterators;
+
+import io.github.hextriclosan.algorithm.helpers.NonComparableObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static java.util.Collections.emptyIterator;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedDifferenceIteratorTest {
+
+    @Test
+    void shouldReturnNoDifferencesForEmptySources() {
+        Iterator<Map.Entry<Character, Integer>> iterator = new SortedDifferenceIterator<>(emptyIterator(), emptyIterator());
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void shouldReturnNoDifferencesForEqualSources() {
+        Iterator<Map.Entry<Character, Integer>> iterator = new SortedDifferenceIterator<>(
+                Arrays.asList('A', 'B', 'B').iterator(), Arrays.asList('A', 'B', 'B').iterator());
+
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void shouldReturnDifferencesInSortedOrder() {
+        Iterator<Map.Entry<Character, Integer>> iterator = new SortedDifferenceIterator<>(
+                Arrays.asList('A', 'A', 'B', 'C', 'C', 'C', 'E').iterator(),
+                Arrays.asList('A', 'B', 'B', 'C', 'C', 'C', 'D').iterator());
+
+        assertTrue(iterator.hasNext());
+        assertEquals(entry('A', 1), iterator.next());
+
+        assertTrue(iterator.hasNext());
+        assertEquals(entry('B', -1), iterator.next());
+
+        assertTrue(iterator.hasNext());
+        assertEquals(entry('D', -1), iterator.next());
+
+        assertTrue(iterator.hasNext());
+        assertEquals(entry('E', 1), iterator.next());
+
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void shouldReturnAllElementsWhenOneSourceIsEmpty() {
+        Iterator<Map.Entry<Character, Integer>> iterator = new SortedDifferenceIterator<>(
+                emptyIterator(), Arrays.asList('A', 'A', 'B').iterator());
+
+        assertEquals(entry('A', -2), iterator.next());
+        assertEquals(entry('B', -1), iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void shouldUseComparatorIfProvided() {
+        Iterator<Map.Entry<NonComparableObject<Character>, Integer>> iterator = new SortedDifferenceIterator<>(
+                Arrays.asList(new NonComparableObject<>('B'), new NonComparableObject<>('A')).iterator(),
+                Arrays.asList(new NonComparableObject<>('C'), new NonComparableObject<>('A')).iterator(),
+                Comparator.comparing(NonComparableObject<Character>::getValue).reversed());
+
+        assertEquals(entry(new NonComparableObject<>('C'), -1), iterator.next());
+        assertEquals(entry(new NonComparableObject<>('B'), 1), iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void shouldThrowWhenRemoveIsCalled() {
+        Iterator<Map.Entry<Character, Integer>> iterator = new SortedDifferenceIterator<>(
+                Arrays.asList('A').iterator(), emptyIterator());
+
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    private static <E> Map.Entry<E, Integer> entry(E element, int count) {
+        return new AbstractMap.SimpleImmutableEntry<>(element, count);
+    }
+
+}
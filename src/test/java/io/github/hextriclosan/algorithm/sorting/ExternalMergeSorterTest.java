@@ -0,0 +1,111 @@
+package io.github.hextriclosan.algorithm.sorting;
+
+import io.github.hextriclosan.algorithm.comparators.LexicographicalComparator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExternalMergeSorterTest {
+
+    private static final ExternalMergeSorter.Serializer<Integer> INTEGERS = new ExternalMergeSorter.Serializer<>() {
+        @Override
+        public void write(Integer element, DataOutput output) throws IOException {
+            output.writeInt(element);
+        }
+
+        @Override
+        public Integer read(DataInput input) throws IOException {
+            return input.readInt();
+        }
+    };
+
+    @TempDir
+    Path tempDirectory;
+
+    @Test
+    void shouldSortInMemoryWhenInputFitsSingleRun() throws IOException {
+        ExternalMergeSorter<Integer> sorter = new ExternalMergeSorter<>(INTEGERS);
+        List<List<Integer>> sequences = Arrays.asList(
+                Arrays.asList(2, 1), Collections.emptyList(), Arrays.asList(1, 2, 3), Arrays.asList(1, 2));
+
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        sorter.sort(sequences.stream().onClose(() -> closed.set(true)), output);
+
+        assertEquals(Arrays.asList(
+                        Collections.emptyList(), Arrays.asList(1, 2), Arrays.asList(1, 2, 3), Arrays.asList(2, 1)),
+                readAll(sorter, output));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void shouldMergeSpilledRunsInSeveralPasses() throws IOException {
+        ExternalMergeSorter<Integer> sorter = new ExternalMergeSorter<>(Comparator.reverseOrder(), INTEGERS,
+                50, 3, tempDirectory);
+        Random random = new Random(0);
+        List<List<Integer>> sequences = new ArrayList<>();
+        for (int i = 0; i < 5_000; ++i) {
+            List<Integer> sequence = new ArrayList<>();
+            int length = random.nextInt(5);
+            for (int j = 0; j < length; ++j) {
+                sequence.add(random.nextInt(4));
+            }
+            sequences.add(sequence);
+        }
+        List<List<Integer>> expected = new ArrayList<>(sequences);
+        expected.sort(new LexicographicalComparator<>(Comparator.reverseOrder()));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        sorter.sort(sequences.iterator(), output);
+
+        assertEquals(expected, readAll(sorter, output));
+        try (Stream<Path> files = Files.list(tempDirectory)) {
+            assertFalse(files.findAny().isPresent());
+        }
+    }
+
+    @Test
+    void shouldSortEmptyInput() throws IOException {
+        ExternalMergeSorter<Integer> sorter = new ExternalMergeSorter<>(INTEGERS);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        sorter.sort(Collections.<List<Integer>>emptyIterator(), output);
+
+        assertEquals(Collections.emptyList(), readAll(sorter, output));
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionForTooSmallFanIn() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExternalMergeSorter<>(null, INTEGERS, 1, 1, null));
+    }
+
+    private static List<List<Integer>> readAll(ExternalMergeSorter<Integer> sorter, ByteArrayOutputStream output) {
+        List<List<Integer>> result = new ArrayList<>();
+        Iterator<List<Integer>> iterator = sorter.read(new ByteArrayInputStream(output.toByteArray()));
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+}
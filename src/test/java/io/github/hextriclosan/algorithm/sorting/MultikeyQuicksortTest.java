@@ -0,0 +1,75 @@
+package io.github.hextriclosan.algorithm.sorting;
+
+import io.github.hextriclosan.algorithm.comparators.LexicographicalComparator;
+import io.github.hextriclosan.algorithm.helpers.CustomComparator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MultikeyQuicksortTest {
+
+    @Test
+    void shouldSortSequencesLexicographically() {
+        List<List<Character>> sequences = new ArrayList<>(Arrays.asList(
+                Arrays.asList('B', 'A'), Collections.emptyList(), Arrays.asList('A', 'B', 'C'),
+                Arrays.asList('A', 'B'), Arrays.asList('B'), Arrays.asList('A', 'B')));
+
+        new MultikeyQuicksort<Character>().sort(sequences);
+
+        assertEquals(Arrays.asList(
+                Collections.emptyList(), Arrays.asList('A', 'B'), Arrays.asList('A', 'B'),
+                Arrays.asList('A', 'B', 'C'), Arrays.asList('B'), Arrays.asList('B', 'A')), sequences);
+    }
+
+    @Test
+    void shouldMatchLexicographicalComparatorOrderInParallel() {
+        Random random = new Random(0);
+        List<Integer> sharedPrefix = new ArrayList<>(Collections.nCopies(200, 7));
+        List<List<Integer>> sequences = new ArrayList<>();
+        for (int i = 0; i < 50_000; ++i) {
+            List<Integer> sequence = new ArrayList<>(random.nextBoolean() ? sharedPrefix : Collections.emptyList());
+            int length = random.nextInt(10);
+            for (int j = 0; j < length; ++j) {
+                sequence.add(random.nextInt(10));
+            }
+            sequences.add(sequence);
+        }
+        List<List<Integer>> expected = new ArrayList<>(sequences);
+        expected.sort(new LexicographicalComparator<>(Comparator.reverseOrder()));
+
+        new MultikeyQuicksort<Integer>(Comparator.reverseOrder()).sort(sequences);
+
+        assertEquals(expected, sequences);
+    }
+
+    @Test
+    void shouldKeepOriginalNonRandomAccessSequences() {
+        List<Character> ba = new LinkedList<>(Arrays.asList('B', 'A'));
+        List<Character> ab = new LinkedList<>(Arrays.asList('A', 'B'));
+        List<List<Character>> sequences = new LinkedList<>(Arrays.asList(ba, ab));
+
+        new MultikeyQuicksort<Character>().sort(sequences);
+
+        assertSame(ab, sequences.get(0));
+        assertSame(ba, sequences.get(1));
+    }
+
+    @Test
+    void shouldTreatObjectsWithEqualComparatorsAsEqual() {
+        MultikeyQuicksort<Number> one = new MultikeyQuicksort<>(new CustomComparator<>(42));
+        MultikeyQuicksort<Number> another = new MultikeyQuicksort<>(new CustomComparator<>(42));
+
+        assertEquals(one, another);
+        assertEquals(one.hashCode(), another.hashCode());
+    }
+
+}
@@ -0,0 +1,103 @@
+package io.github.hextriclosan.algorithm.sorting;
+
+import io.github.hextriclosan.algorithm.comparators.LexicographicalComparator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PrefixKeySorterTest {
+
+    @Test
+    void shouldSortSequencesLexicographically() {
+        List<List<Character>> sequences = new ArrayList<>(Arrays.asList(
+                chars("banana"), chars("band"), chars(""), chars("ban"), chars("apple"), chars("bandana"), chars("b")));
+
+        new PrefixKeySorter<Character>(PrefixKeySorter.packedPrefix(c -> c - 'a', 5)).sort(sequences);
+
+        assertEquals(Arrays.asList(
+                chars(""), chars("apple"), chars("b"), chars("ban"), chars("banana"), chars("band"), chars("bandana")),
+                sequences);
+    }
+
+    @Test
+    void shouldMatchLexicographicalComparatorOrder() {
+        Random random = new Random(0);
+        List<List<Integer>> sequences = new ArrayList<>();
+        for (int i = 0; i < 20_000; ++i) {
+            List<Integer> sequence = new ArrayList<>();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; ++j) {
+                sequence.add(random.nextInt(4));
+            }
+            sequences.add(sequence);
+        }
+        List<List<Integer>> expected = new ArrayList<>(sequences);
+        expected.sort(new LexicographicalComparator<>(Comparator.reverseOrder()));
+
+        new PrefixKeySorter<Integer>(Comparator.reverseOrder(), PrefixKeySorter.packedPrefix(i -> 3 - i, 2))
+                .sort(sequences);
+
+        assertEquals(expected, sequences);
+        for (int i = 0; i < expected.size(); ++i) {
+            assertSame(expected.get(i), sequences.get(i));
+        }
+    }
+
+    @Test
+    void shouldSortNonRandomAccessListWithCustomPrefixKey() {
+        ToIntFunction<Iterable<Character>> constant = sequence -> 42;
+        List<List<Character>> sequences = new LinkedList<>(Arrays.asList(chars("cb"), chars("ca"), chars("a")));
+
+        new PrefixKeySorter<>(constant).sort(sequences);
+
+        assertEquals(Arrays.asList(chars("a"), chars("ca"), chars("cb")), sequences);
+    }
+
+    @Test
+    void shouldSortEmptyList() {
+        List<List<Character>> sequences = new ArrayList<>();
+
+        new PrefixKeySorter<Character>(PrefixKeySorter.packedPrefix(c -> c, 16)).sort(sequences);
+
+        assertEquals(Collections.emptyList(), sequences);
+    }
+
+    @Test
+    void shouldPackElementKeysIntoPrefixKey() {
+        ToIntFunction<Iterable<Character>> fiveBits = PrefixKeySorter.packedPrefix(c -> c - 'a', 5);
+        assertEquals((1 << 24 | 2 << 18 | 3 << 12) << 2, fiveBits.applyAsInt(chars("abc")));
+        assertEquals(0, fiveBits.applyAsInt(chars("")));
+
+        ToIntFunction<Iterable<Integer>> thirtyBits = PrefixKeySorter.packedPrefix(i -> i, 30);
+        assertEquals(0, thirtyBits.applyAsInt(Collections.emptyList()));
+        assertEquals(2, thirtyBits.applyAsInt(Arrays.asList(0, 5)));
+        assertEquals(4, thirtyBits.applyAsInt(Collections.singletonList(1)));
+        assertEquals(Integer.MIN_VALUE, thirtyBits.applyAsInt(Collections.singletonList((1 << 30) - 1)));
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenBitsAreOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> PrefixKeySorter.packedPrefix(c -> 0, 31));
+        assertThrows(IllegalArgumentException.class, () -> PrefixKeySorter.packedPrefix(c -> 0, 0));
+    }
+
+    private static List<Character> chars(String string) {
+        List<Character> chars = new ArrayList<>();
+        for (char c : string.toCharArray()) {
+            chars.add(c);
+        }
+        return chars;
+    }
+
+}